@@ -0,0 +1,111 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.JobSearchCacheProperties;
+import com.careercompass.backend.config.properties.RateLimitProperties;
+import com.careercompass.backend.config.security.TokenBucketRegistry;
+import com.careercompass.backend.service.job.JobSearchCache;
+import com.careercompass.backend.util.BloomFilter;
+import com.careercompass.backend.util.NegativeCache;
+import com.careercompass.backend.util.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * The in-process engines on the request path: registration Bloom filter,
+ * negative cache, single-flight coalescing, the search id-window cache and
+ * the rate limiter. Run with four threads so contention shows up.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CachingBenchmark {
+
+    private static final int KEYS = 100_000;
+
+    private BloomFilter bloomFilter;
+    private NegativeCache<Long> negativeCache;
+    private SingleFlight<Long, Long> singleFlight;
+    private JobSearchCache jobSearchCache;
+    private TokenBucketRegistry tokenBuckets;
+    private Page<Long> idPage;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        bloomFilter = new BloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            bloomFilter.put("user" + i + "@example.com");
+        }
+
+        negativeCache = new NegativeCache<>("bench.missing", true, KEYS, Duration.ofMinutes(10), meterRegistry);
+        for (long i = 0; i < KEYS; i += 2) {
+            negativeCache.markMissing(i);
+        }
+
+        singleFlight = new SingleFlight<>("bench", Duration.ofSeconds(2), 1, meterRegistry);
+
+        JobSearchCacheProperties searchProperties = new JobSearchCacheProperties();
+        jobSearchCache = new JobSearchCache(searchProperties, new CoalescingProperties(), meterRegistry);
+        List<Long> ids = LongStream.rangeClosed(1, searchProperties.getWindowSize()).boxed().toList();
+        idPage = new PageImpl<>(ids, PageRequest.of(0, searchProperties.getWindowSize()), 5_000);
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        tokenBuckets = new TokenBucketRegistry(rateLimitProperties);
+    }
+
+    @Benchmark
+    public boolean bloomFilterLookup() {
+        int n = ThreadLocalRandom.current().nextInt(2 * KEYS);
+        return bloomFilter.mightContain("user" + n + "@example.com");
+    }
+
+    @Benchmark
+    public boolean negativeCacheLookup() {
+        return negativeCache.isKnownMissing(ThreadLocalRandom.current().nextLong(KEYS));
+    }
+
+    // Uncontended leader path: the bookkeeping cost added to every coalesced load
+    @Benchmark
+    public Long singleFlightExecute() {
+        return singleFlight.execute(ThreadLocalRandom.current().nextLong(KEYS), key -> key);
+    }
+
+    // Warm hit on a cached window, sliced to a 20 item page
+    @Benchmark
+    public Page<Long> searchWindowHit() {
+        Pageable pageable = PageRequest.of(ThreadLocalRandom.current().nextInt(5), 20);
+        return jobSearchCache.findIds("location", "colombo", "location:colombo", pageable, window -> idPage);
+    }
+
+    @Benchmark
+    public TokenBucketRegistry.Decision rateLimitDecision() {
+        String key = "ip:10.0." + ThreadLocalRandom.current().nextInt(256) + ".1";
+        return tokenBuckets.tryConsume(key, 1, System.nanoTime());
+    }
+}
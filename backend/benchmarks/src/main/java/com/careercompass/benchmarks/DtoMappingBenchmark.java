@@ -0,0 +1,72 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.dto.response.ResumeResponse;
+import com.careercompass.backend.dto.response.UserResponse;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.ResumeRepository;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.resume.ResumeService;
+import com.careercompass.backend.service.user.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping in UserService and ResumeService. The mappers
+ * are private, so they are driven through the public list methods against
+ * in-memory repositories; what remains is the mapping itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private UserService userService;
+    private ResumeService resumeService;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(0, pageSize);
+        Page<User> users = new PageImpl<>(Fixtures.users(pageSize), pageable, 10_000);
+        UserRepository userRepository = Fixtures.repository(UserRepository.class, Map.of("findAll", users));
+        userService = new UserService(userRepository, null, null);
+
+        User owner = Fixtures.user(1);
+        ResumeRepository resumeRepository = Fixtures.repository(ResumeRepository.class,
+                Map.of("findByUserId", Fixtures.resumes(owner, pageSize)));
+        resumeService = new ResumeService(resumeRepository, userRepository, null);
+    }
+
+    @Benchmark
+    public Page<UserResponse> mapUsers() {
+        return userService.getAllUsers(pageable);
+    }
+
+    @Benchmark
+    public List<ResumeResponse> mapResumes() {
+        return resumeService.getUserResumes(1L);
+    }
+}
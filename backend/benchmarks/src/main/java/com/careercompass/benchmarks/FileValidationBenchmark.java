@@ -0,0 +1,63 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.util.FileValidationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Upload validation and file name sanitizing for ordinary and hostile names.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FileValidationBenchmark {
+
+    @Param({"plain", "hostile"})
+    public String fileName;
+
+    private String name;
+    private MockMultipartFile upload;
+
+    @Setup
+    public void setUp() {
+        name = switch (fileName) {
+            case "plain" -> "John Smith - Resume 2025.pdf";
+            case "hostile" -> "../../etc/<script>alert(1)</script>%00 résumé;rm -rf ~.pdf";
+            default -> throw new IllegalArgumentException(fileName);
+        };
+        upload = new MockMultipartFile("file", "John Smith - Resume 2025.pdf", "application/pdf",
+                new byte[64 * 1024]);
+    }
+
+    @Benchmark
+    public void validateFile(Blackhole blackhole) {
+        FileValidationUtil.validateFile(upload);
+        blackhole.consume(upload);
+    }
+
+    @Benchmark
+    public String sanitizeFileName() {
+        return FileValidationUtil.sanitizeFileName(name);
+    }
+
+    @Benchmark
+    public boolean isSafeFileName() {
+        return FileValidationUtil.isSafeFileName(name);
+    }
+}
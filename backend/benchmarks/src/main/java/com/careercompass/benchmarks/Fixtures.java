@@ -0,0 +1,143 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.entity.Benefit;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.entity.Resume;
+import com.careercompass.backend.entity.Skill;
+import com.careercompass.backend.entity.User;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deterministic test data and in-memory repository stubs shared by the
+ * benchmarks, so each suite measures backend code rather than a database.
+ */
+final class Fixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        User user = User.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .username("user" + id)
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .firstName("First" + id)
+                .lastName("Last" + id)
+                .role(User.Role.USER)
+                .enabled(true)
+                .emailVerified(true)
+                .accountLocked(false)
+                .failedLoginAttempts(0)
+                .lastLoginAt(NOW)
+                .build();
+        user.setCreatedAt(NOW.minusDays(id % 365));
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(user(id));
+        }
+        return users;
+    }
+
+    static List<Resume> resumes(User owner, int count) {
+        List<Resume> resumes = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Resume resume = new Resume();
+            resume.setId(id);
+            resume.setFileName("0f8fad5b-d9cb-469f-a165-70867728950e.pdf");
+            resume.setOriginalFileName("resume-" + id + ".pdf");
+            resume.setFilePath("/uploads/resumes/0f8fad5b-d9cb-469f-a165-70867728950e.pdf");
+            resume.setContentType("application/pdf");
+            resume.setFileSize(120_000L + id);
+            resume.setUser(owner);
+            resume.setStatus(Resume.Status.UPLOADED);
+            resume.setCreatedAt(NOW);
+            resume.setUpdatedAt(NOW);
+            resumes.add(resume);
+        }
+        return resumes;
+    }
+
+    // Jobs shaped like real listings: a few skills and benefits, a paragraph of description
+    static List<Job> jobs(int count) {
+        Set<Skill> skills = new HashSet<>();
+        for (String name : List.of("Java", "Spring", "PostgreSQL", "Docker", "Kubernetes")) {
+            skills.add(new Skill(name, "Engineering"));
+        }
+        Set<Benefit> benefits = new HashSet<>();
+        for (String name : List.of("Health insurance", "Remote work", "Stock options")) {
+            benefits.add(new Benefit(name, "Perks"));
+        }
+
+        List<Job> jobs = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            jobs.add(Job.builder()
+                    .id(id)
+                    .title("Senior Backend Engineer " + id)
+                    .description("Build and operate the services behind our job marketplace. ".repeat(8))
+                    .companyId(id % 50 + 1)
+                    .postedBy(id % 200 + 1)
+                    .location("Colombo, Sri Lanka")
+                    .locationType(Job.LocationType.HYBRID)
+                    .salaryMin(BigDecimal.valueOf(90_000))
+                    .salaryMax(BigDecimal.valueOf(140_000))
+                    .currency("USD")
+                    .salaryFrequency(Job.SalaryFrequency.ANNUAL)
+                    .employmentType(Job.EmploymentType.FULL_TIME)
+                    .seniorityLevel(Job.SeniorityLevel.SENIOR)
+                    .experienceYearsMin(5)
+                    .experienceYearsMax(10)
+                    .requiredSkillCount(skills.size())
+                    .benefitCount(benefits.size())
+                    .applicationCount(12)
+                    .viewCount(340)
+                    .status(Job.JobStatus.ACTIVE)
+                    .visibility(Job.Visibility.PUBLIC)
+                    .isFeatured(id % 10 == 0)
+                    .createdAt(NOW.minusHours(id))
+                    .updatedAt(NOW)
+                    .publishedAt(NOW.minusHours(id))
+                    .expiresAt(NOW.plusDays(30))
+                    .skills(skills)
+                    .benefits(benefits)
+                    .build());
+        }
+        return jobs;
+    }
+
+    /**
+     * Repository stub answering by method name; anything unlisted fails loudly
+     * so a benchmark cannot silently measure a null path.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + "Stub";
+                };
+            }
+            if (!answers.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answers.get(method.getName());
+        });
+    }
+}
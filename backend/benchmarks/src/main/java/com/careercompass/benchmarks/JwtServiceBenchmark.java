@@ -0,0 +1,61 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.service.auth.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, which every login and every authenticated
+ * request pays for respectively.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret",
+                "YourSecretKeyChangeInProductionMinimum256BitsForSecurityPurposesCareerCompass2025");
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMs", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "jwtRefreshExpirationMs", 604_800_000L);
+        user = Fixtures.user(42);
+        token = jwtService.generateTokenForUser(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateTokenForUser(user);
+    }
+
+    // Signature check plus claim parsing, as done by JwtAuthenticationFilter
+    @Benchmark
+    public Long extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtService.validateToken(token, user);
+    }
+}
@@ -0,0 +1,68 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.util.WireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a page of jobs, the body of the listing and search endpoints,
+ * in each negotiable wire format.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public WireFormat format;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private Page<Job> page;
+
+    @Setup
+    public void setUp() {
+        writer = mapperFor(format).writer();
+        page = new PageImpl<>(Fixtures.jobs(pageSize), PageRequest.of(0, pageSize), 5_000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return writer.writeValueAsBytes(page);
+    }
+
+    // Default Jackson 3 mappers, matching the application's unconfigured spring.jackson settings
+    private static ObjectMapper mapperFor(WireFormat format) {
+        return switch (format) {
+            case JSON -> JsonMapper.builder().findAndAddModules().build();
+            case CBOR -> CBORMapper.builder().findAndAddModules().build();
+            case SMILE -> SmileMapper.builder().findAndAddModules().build();
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.careercompass.benchmarks;
+
+import com.careercompass.backend.config.metrics.RepositoryMetrics;
+import com.careercompass.backend.config.metrics.RepositoryMetricsInterceptor;
+import com.careercompass.backend.config.properties.RepositoryMetricsProperties;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of RepositoryMetricsInterceptor: the same in-memory repository
+ * behind an AOP proxy with and without the interceptor. The difference
+ * between the pairs is the per-call cost of the instrumentation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RepositoryMetricsBenchmark {
+
+    private UserRepository plain;
+    private UserRepository instrumented;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        pageable = PageRequest.of(0, 20);
+        User user = Fixtures.user(7);
+        UserRepository target = Fixtures.repository(UserRepository.class, Map.of(
+                "findByEmail", Optional.of(user),
+                "findByRole", new PageImpl<>(Fixtures.users(20), pageable, 1_000)));
+
+        plain = proxy(target, null);
+        RepositoryMetrics metrics = new RepositoryMetrics(new SimpleMeterRegistry(), new RepositoryMetricsProperties());
+        instrumented = proxy(target, new RepositoryMetricsInterceptor(metrics, UserRepository.class));
+    }
+
+    @Benchmark
+    public Optional<User> findByEmailPlain() {
+        return plain.findByEmail("user7@example.com");
+    }
+
+    @Benchmark
+    public Optional<User> findByEmailInstrumented() {
+        return instrumented.findByEmail("user7@example.com");
+    }
+
+    @Benchmark
+    public Object findPagePlain() {
+        return plain.findByRole(User.Role.USER, pageable);
+    }
+
+    @Benchmark
+    public Object findPageInstrumented() {
+        return instrumented.findByRole(User.Role.USER, pageable);
+    }
+
+    private static UserRepository proxy(UserRepository target, RepositoryMetricsInterceptor interceptor) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(UserRepository.class);
+        if (interceptor != null) {
+            factory.addAdvice(interceptor);
+        }
+        return (UserRepository) factory.getProxy();
+    }
+}
@@ -0,0 +1,129 @@
+package com.careercompass.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Streams rows into one COPY ... FROM STDIN (FORMAT csv) statement, flushing
+ * about a megabyte at a time. Text is always quoted so an empty string is
+ * never confused with NULL, which CSV COPY writes as an empty unquoted field.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int FLUSH_CHARS = 1 << 20;
+
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_CHARS + 8192);
+    private boolean rowStart = true;
+    private long rows;
+
+    CopyWriter(Connection connection, String table, String columns) throws SQLException {
+        this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + columns + ") FROM STDIN (FORMAT csv)");
+    }
+
+    CopyWriter text(String value) {
+        separator();
+        if (value != null) {
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+        return this;
+    }
+
+    CopyWriter number(long value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyWriter number(Integer value) {
+        separator();
+        if (value != null) {
+            buffer.append(value.intValue());
+        }
+        return this;
+    }
+
+    CopyWriter decimal(BigDecimal value) {
+        separator();
+        if (value != null) {
+            buffer.append(value.toPlainString());
+        }
+        return this;
+    }
+
+    CopyWriter bool(boolean value) {
+        separator();
+        buffer.append(value ? 't' : 'f');
+        return this;
+    }
+
+    CopyWriter timestamp(LocalDateTime value) {
+        separator();
+        if (value != null) {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    CopyWriter nullValue() {
+        separator();
+        return this;
+    }
+
+    void endRow() throws SQLException {
+        buffer.append('\n');
+        rowStart = true;
+        rows++;
+        if (buffer.length() >= FLUSH_CHARS) {
+            flush();
+        }
+    }
+
+    // Complete the COPY and return the row count the server reports
+    long finish() throws SQLException {
+        flush();
+        long copied = copyIn.endCopy();
+        if (copied != rows) {
+            throw new SQLException("COPY wrote " + copied + " rows, expected " + rows);
+        }
+        return copied;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (copyIn.isActive()) {
+            copyIn.cancelCopy();
+        }
+    }
+
+    private void separator() {
+        if (!rowStart) {
+            buffer.append(',');
+        }
+        rowStart = false;
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,256 @@
+package com.careercompass.datagen;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads a synthetic CareerCompass dataset into PostgreSQL.
+ *
+ * Each table is split into id ranges that worker threads stream in with
+ * COPY, one connection per worker. Sessions run with
+ * session_replication_role = replica so foreign key checks and the
+ * job_skills/job_benefits count triggers are skipped; the generator writes
+ * consistent ids and the counts itself. With --drop-indexes, secondary
+ * indexes are dropped before the load and rebuilt in parallel afterwards,
+ * which is what makes the 10M job scale load in minutes.
+ *
+ * Usage: java -jar datagen.jar --jobs=1000000 --seed=42 --truncate [--drop-indexes]
+ */
+public class DataGenerator {
+
+    private static final List<String> TABLES = List.of(
+            "job_skills", "job_benefits", "resumes", "user_authorities", "jobs", "users", "companies", "skills", "benefits");
+
+    private final GeneratorOptions options;
+    private final Rows rows;
+    private final AtomicBoolean replicaRoleWarned = new AtomicBoolean();
+
+    DataGenerator(GeneratorOptions options) {
+        this.options = options;
+        this.rows = new Rows(options);
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options = GeneratorOptions.parse(args);
+        System.out.printf("Generating %,d jobs, %,d users, %,d companies, %d skills, %d benefits (seed %d, as of %s) with %d threads%n",
+                options.jobs(), options.users(), options.companies(), options.skills(), options.benefits(),
+                options.seed(), options.asOf(), options.threads());
+        new DataGenerator(options).run();
+    }
+
+    void run() throws Exception {
+        long start = System.nanoTime();
+        Map<String, String> droppedIndexes;
+        try (Connection connection = connect()) {
+            List<String> tables = existingTables(connection);
+            prepareTables(connection, tables);
+            droppedIndexes = options.dropIndexes() ? dropSecondaryIndexes(connection, tables) : Map.of();
+        }
+
+        load("skills", Rows.SKILL_COLUMNS, options.skills(), rows::skill);
+        load("benefits", Rows.BENEFIT_COLUMNS, options.benefits(), rows::benefit);
+        load("companies", Rows.COMPANY_COLUMNS, options.companies(), rows::company);
+        load("users", Rows.USER_COLUMNS, options.users(), rows::user);
+        load("jobs", Rows.JOB_COLUMNS, options.jobs(), rows::job);
+        load("job_skills", Rows.JOB_SKILL_COLUMNS, options.jobs(), rows::jobSkills);
+        load("job_benefits", Rows.JOB_BENEFIT_COLUMNS, options.jobs(), rows::jobBenefits);
+        load("resumes", Rows.RESUME_COLUMNS, options.users(), rows::resumes);
+
+        rebuildIndexes(droppedIndexes);
+        try (Connection connection = connect()) {
+            finish(connection);
+        }
+        System.out.printf("Done in %.1f s. Every user's password is %s%n",
+                (System.nanoTime() - start) / 1e9, Rows.PASSWORD);
+    }
+
+    @FunctionalInterface
+    interface RowWriter {
+        void write(long id, CopyWriter out) throws SQLException;
+    }
+
+    // Stream ids 1..count of one table, chunk by chunk, across the worker threads
+    private void load(String table, String columns, long count, RowWriter writer) throws Exception {
+        if (count <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        long chunks = (count + options.chunkSize() - 1) / options.chunkSize();
+        AtomicLong nextChunk = new AtomicLong();
+        AtomicLong copied = new AtomicLong();
+        int workers = (int) Math.min(options.threads(), chunks);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = connect()) {
+                        useReplicaRole(connection);
+                        long chunk;
+                        while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                            long first = chunk * options.chunkSize() + 1;
+                            long last = Math.min(count, first + options.chunkSize() - 1);
+                            try (CopyWriter out = new CopyWriter(connection, table, columns)) {
+                                for (long id = first; id <= last; id++) {
+                                    writer.write(id, out);
+                                }
+                                copied.addAndGet(out.finish());
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Loading " + table + " failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("  %-13s %,13d rows in %6.1f s (%,.0f rows/s)%n",
+                table, copied.get(), seconds, copied.get() / Math.max(seconds, 1e-3));
+    }
+
+    // Refuse to mix generated ids with existing data unless asked to wipe it
+    private void prepareTables(Connection connection, List<String> tables) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (options.truncate()) {
+                statement.execute("TRUNCATE " + String.join(", ", tables) + " RESTART IDENTITY CASCADE");
+                System.out.println("Truncated " + String.join(", ", tables));
+                return;
+            }
+            for (String table : tables) {
+                try (ResultSet rs = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + table + ")")) {
+                    rs.next();
+                    if (rs.getBoolean(1)) {
+                        throw new IllegalStateException("Table " + table + " is not empty; rerun with --truncate");
+                    }
+                }
+            }
+        }
+    }
+
+    private List<String> existingTables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            for (String table : TABLES) {
+                statement.setString(1, table);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    if (rs.getBoolean(1)) {
+                        tables.add(table);
+                    }
+                }
+            }
+        }
+        if (!tables.contains("jobs") || !tables.contains("users")) {
+            throw new IllegalStateException("Schema not found; start the backend or run the migrations first");
+        }
+        return tables;
+    }
+
+    // Secondary indexes only: primary keys and unique constraints stay so the data is still checked
+    private Map<String, String> dropSecondaryIndexes(Connection connection, List<String> tables) throws SQLException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        String sql = "SELECT i.indexname, i.indexdef FROM pg_indexes i "
+                + "WHERE i.schemaname = current_schema() AND i.tablename = ANY (?) "
+                + "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conname = i.indexname)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, connection.createArrayOf("text", tables.toArray()));
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    indexes.put(rs.getString(1), rs.getString(2));
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String index : indexes.keySet()) {
+                statement.execute("DROP INDEX IF EXISTS \"" + index + "\"");
+            }
+        }
+        System.out.printf("Dropped %d secondary indexes for the load%n", indexes.size());
+        return indexes;
+    }
+
+    private void rebuildIndexes(Map<String, String> indexes) throws Exception {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.threads(), indexes.size()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<String, String> index : indexes.entrySet()) {
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                        statement.execute("SET maintenance_work_mem = '256MB'");
+                        statement.execute(index.getValue());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.printf("Rebuilt %d indexes in %.1f s%n", indexes.size(), (System.nanoTime() - start) / 1e9);
+    }
+
+    // Move sequences past the explicit ids, refresh planner statistics and tell running nodes the catalog changed
+    private void finish(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("skills", "benefits", "companies", "users", "jobs", "resumes")) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                        + "GREATEST((SELECT COALESCE(MAX(id), 0) FROM " + table + "), 1))");
+            }
+            statement.execute("ANALYZE");
+            try (ResultSet rs = statement.executeQuery("SELECT to_regclass('catalog_versions') IS NOT NULL")) {
+                rs.next();
+                if (rs.getBoolean(1)) {
+                    statement.execute("UPDATE catalog_versions SET version = version + 1");
+                }
+            }
+        }
+    }
+
+    // Needs superuser; without it the load still works, just slower with triggers and FK checks
+    private void useReplicaRole(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET session_replication_role = replica");
+        } catch (SQLException e) {
+            if (replicaRoleWarned.compareAndSet(false, true)) {
+                System.out.println("Cannot skip triggers and FK checks (" + e.getMessage().trim()
+                        + "); loading with them enabled");
+            }
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(options.url(), options.username(), options.password());
+        connection.setAutoCommit(true);
+        return connection;
+    }
+}
@@ -0,0 +1,75 @@
+package com.careercompass.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as --name=value. Row counts not given are
+ * derived from --jobs so a single knob scales the whole dataset. The output
+ * is a pure function of --seed, --as-of and the row counts; thread count and
+ * chunk size only change how fast it loads.
+ */
+record GeneratorOptions(
+        String url,
+        String username,
+        String password,
+        long seed,
+        LocalDate asOf,
+        long jobs,
+        long users,
+        long companies,
+        int skills,
+        int benefits,
+        int maxResumesPerUser,
+        int threads,
+        int chunkSize,
+        boolean truncate,
+        boolean dropIndexes) {
+
+    static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+
+        long jobs = Long.parseLong(values.getOrDefault("jobs", "100000"));
+        GeneratorOptions options = new GeneratorOptions(
+                values.getOrDefault("url", env("DB_URL", "jdbc:postgresql://localhost:5432/careercompass")),
+                values.getOrDefault("username", env("DB_USERNAME", "postgres")),
+                values.getOrDefault("password", env("DB_PASSWORD", "postgres")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                LocalDate.parse(values.getOrDefault("as-of", "2025-06-01")),
+                jobs,
+                Long.parseLong(values.getOrDefault("users", String.valueOf(Math.max(1_000, jobs / 5)))),
+                Long.parseLong(values.getOrDefault("companies", String.valueOf(Math.max(20, jobs / 500)))),
+                Integer.parseInt(values.getOrDefault("skills", "500")),
+                Integer.parseInt(values.getOrDefault("benefits", "40")),
+                Integer.parseInt(values.getOrDefault("max-resumes-per-user", "3")),
+                Integer.parseInt(values.getOrDefault("threads",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(values.getOrDefault("chunk-size", "50000")),
+                Boolean.parseBoolean(values.getOrDefault("truncate", "false")),
+                Boolean.parseBoolean(values.getOrDefault("drop-indexes", "false")));
+        options.validate();
+        return options;
+    }
+
+    private void validate() {
+        if (jobs < 0 || users < 10 || companies < 1 || skills < 20 || benefits < 10) {
+            throw new IllegalArgumentException("Need at least 10 users, 1 company, 20 skills and 10 benefits");
+        }
+        if (threads < 1 || chunkSize < 1_000) {
+            throw new IllegalArgumentException("Threads must be positive and chunk size at least 1000");
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.careercompass.datagen;
+
+import java.util.SplittableRandom;
+
+/**
+ * Per-row random streams. Every row gets its own generator seeded from
+ * (seed, table, id), so a row's content never depends on which thread or
+ * chunk produced it, or on how many rows came before it.
+ */
+final class RowRandom {
+
+    static final long USERS = 1;
+    static final long COMPANIES = 2;
+    static final long SKILLS = 3;
+    static final long BENEFITS = 4;
+    static final long JOBS = 5;
+    static final long JOB_SKILLS = 6;
+    static final long JOB_BENEFITS = 7;
+    static final long RESUMES = 8;
+    static final long PASSWORD = 9;
+
+    private RowRandom() {
+    }
+
+    static SplittableRandom of(long seed, long table, long id) {
+        return new SplittableRandom(mix(mix(seed ^ (table * 0x9E3779B97F4A7C15L)) + id));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,365 @@
+package com.careercompass.datagen;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Builds every generated row as a pure function of the options and the row
+ * id. Column lists follow the JPA entity mappings.
+ *
+ * Popularity is Zipf-shaped: a handful of skills, benefits, cities and
+ * companies account for most jobs, with a long tail behind them, which is
+ * what makes index selectivity and cache hit rates realistic.
+ */
+final class Rows {
+
+    static final String SKILL_COLUMNS = "id, name, category, description";
+    static final String BENEFIT_COLUMNS = "id, name, category, description";
+    static final String COMPANY_COLUMNS = "id, name, description, website_url, industry, size, founded_year, "
+            + "headquarters_location, created_at, updated_at";
+    static final String USER_COLUMNS = "id, email, username, password_hash, first_name, last_name, role, enabled, "
+            + "email_verified, account_locked, failed_login_attempts, last_login_at, created_at, updated_at, version";
+    static final String JOB_COLUMNS = "id, title, description, external_job_id, company_id, posted_by, location, "
+            + "location_type, salary_min, salary_max, currency, salary_frequency, employment_type, seniority_level, "
+            + "experience_years_min, experience_years_max, required_skill_count, benefit_count, application_count, "
+            + "view_count, status, visibility, is_featured, created_at, updated_at, published_at, expires_at, closed_at";
+    static final String JOB_SKILL_COLUMNS = "job_id, skill_id";
+    static final String JOB_BENEFIT_COLUMNS = "job_id, benefit_id";
+    static final String RESUME_COLUMNS = "id, file_name, original_file_name, file_path, content_type, file_size, "
+            + "user_id, status, created_at, updated_at";
+
+    // Every generated user can sign in with this password
+    static final String PASSWORD = "Password123!";
+
+    private static final String[] SENIORITY = {"ENTRY", "MID", "SENIOR", "LEAD", "EXECUTIVE"};
+    private static final int[] SENIORITY_BASE_SALARY = {45_000, 70_000, 105_000, 140_000, 190_000};
+    private static final int[] SENIORITY_MIN_YEARS = {0, 2, 5, 8, 10};
+    private static final int MAX_SKILLS_PER_JOB = 10;
+    private static final int MAX_BENEFITS_PER_JOB = 6;
+
+    private final GeneratorOptions options;
+    private final long seed;
+    private final LocalDateTime asOf;
+    private final long recruiters;
+    private final String passwordHash;
+
+    private final Zipf skillPopularity;
+    private final Zipf benefitPopularity;
+    private final Zipf companyPopularity;
+    private final Zipf cityPopularity;
+    private final Zipf rolePopularity;
+
+    Rows(GeneratorOptions options) {
+        this.options = options;
+        this.seed = options.seed();
+        this.asOf = options.asOf().atStartOfDay();
+        this.recruiters = Math.max(2, options.users() / 20);
+        this.passwordHash = hashPassword(seed);
+        this.skillPopularity = new Zipf(options.skills(), 1.07);
+        this.benefitPopularity = new Zipf(options.benefits(), 0.8);
+        this.companyPopularity = new Zipf((int) Math.min(Integer.MAX_VALUE, options.companies()), 0.8);
+        this.cityPopularity = new Zipf(Vocabulary.CITIES.length, 1.0);
+        this.rolePopularity = new Zipf(Vocabulary.ROLES.length, 0.9);
+    }
+
+    // === CATALOG ===
+
+    void skill(long id, CopyWriter out) throws SQLException {
+        String[] base = Vocabulary.SKILLS[(int) ((id - 1) % Vocabulary.SKILLS.length)];
+        String name = qualified(base[0], id, Vocabulary.SKILLS.length, Vocabulary.SKILL_QUALIFIERS);
+        out.number(id).text(name).text(base[1]).text(name + " skills").endRow();
+    }
+
+    void benefit(long id, CopyWriter out) throws SQLException {
+        String[] base = Vocabulary.BENEFITS[(int) ((id - 1) % Vocabulary.BENEFITS.length)];
+        String name = qualified(base[0], id, Vocabulary.BENEFITS.length, Vocabulary.BENEFIT_QUALIFIERS);
+        out.number(id).text(name).text(base[1]).text(name + " for all employees").endRow();
+    }
+
+    void company(long id, CopyWriter out) throws SQLException {
+        SplittableRandom random = RowRandom.of(seed, RowRandom.COMPANIES, id);
+        String name = companyName(id);
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "");
+        LocalDateTime createdAt = asOf.minusDays(365 + random.nextInt(3 * 365)).minusSeconds(random.nextInt(86_400));
+        out.number(id)
+                .text(name)
+                .text(name + " builds " + pick(random, Vocabulary.INDUSTRIES).toLowerCase(Locale.ROOT)
+                        + " products for customers worldwide.")
+                .text("https://" + slug + ".example.com")
+                .text(pick(random, Vocabulary.INDUSTRIES))
+                .text(pick(random, new String[]{"STARTUP", "SMALL", "MEDIUM", "LARGE", "ENTERPRISE"}))
+                .number(1950 + random.nextInt(75))
+                .text(Vocabulary.CITIES[cityPopularity.sample(random)])
+                .timestamp(createdAt)
+                .timestamp(createdAt)
+                .endRow();
+    }
+
+    // === USERS ===
+
+    // The first user is an admin, the next block recruiters who post the jobs, the rest job seekers
+    void user(long id, CopyWriter out) throws SQLException {
+        SplittableRandom random = RowRandom.of(seed, RowRandom.USERS, id);
+        String first = pick(random, Vocabulary.FIRST_NAMES);
+        String last = pick(random, Vocabulary.LAST_NAMES);
+        String role = id == 1 ? "ADMIN" : id <= recruiters + 1 ? "RECRUITER" : "USER";
+        LocalDateTime createdAt = recent(random, 3 * 365);
+        boolean verified = random.nextInt(10) < 8;
+        out.number(id)
+                .text((first + "." + last + "." + id + "@" + pick(random, Vocabulary.EMAIL_DOMAINS)).toLowerCase(Locale.ROOT))
+                .text((first + last + id).toLowerCase(Locale.ROOT))
+                .text(passwordHash)
+                .text(first)
+                .text(last)
+                .text(role)
+                .bool(random.nextInt(100) < 98)
+                .bool(verified)
+                .bool(random.nextInt(200) == 0)
+                .number(random.nextInt(20) == 0 ? random.nextInt(1, 5) : 0)
+                .timestamp(random.nextInt(10) < 7 ? between(random, createdAt, asOf) : null)
+                .timestamp(createdAt)
+                .timestamp(createdAt)
+                .number(0)
+                .endRow();
+    }
+
+    boolean isJobSeeker(long userId) {
+        return userId > recruiters + 1;
+    }
+
+    // Resume ids are derived from the owner so they are stable whatever order chunks finish in
+    void resumes(long userId, CopyWriter out) throws SQLException {
+        if (!isJobSeeker(userId)) {
+            return;
+        }
+        SplittableRandom random = RowRandom.of(seed, RowRandom.RESUMES, userId);
+        int count = random.nextInt(options.maxResumesPerUser() + 1);
+        for (int i = 0; i < count; i++) {
+            boolean pdf = random.nextInt(4) != 0;
+            String extension = pdf ? ".pdf" : ".docx";
+            String fileName = new UUID(random.nextLong(), random.nextLong()) + extension;
+            LocalDateTime createdAt = recent(random, 2 * 365);
+            out.number(userId * options.maxResumesPerUser() + i)
+                    .text(fileName)
+                    .text("resume-" + (i + 1) + extension)
+                    .text("uploads/resumes/" + fileName)
+                    .text(pdf ? "application/pdf"
+                            : "application/vnd.openxmlformats-officedocument.wordprocessingml.document")
+                    .number(40_000 + random.nextInt(2_000_000))
+                    .number(userId)
+                    .text(random.nextInt(10) < 7 ? "UPLOADED" : random.nextInt(5) == 0 ? "FAILED" : "ANALYZED")
+                    .timestamp(createdAt)
+                    .timestamp(createdAt)
+                    .endRow();
+        }
+    }
+
+    // === JOBS ===
+
+    void job(long id, CopyWriter out) throws SQLException {
+        SplittableRandom random = RowRandom.of(seed, RowRandom.JOBS, id);
+        int seniority = pickSeniority(random);
+        String role = Vocabulary.ROLES[rolePopularity.sample(random)];
+        String title = (Vocabulary.SENIORITY_TITLES[seniority] + " " + role).trim();
+
+        int[] skills = skillsFor(id);
+        String primarySkill = skillName(skills[0]);
+        String secondarySkill = skillName(skills[skills.length > 1 ? 1 : 0]);
+
+        String employmentType = pickEmploymentType(random);
+        boolean hourly = employmentType.equals("CONTRACT") || employmentType.equals("TEMPORARY");
+        BigDecimal salaryMin = null;
+        BigDecimal salaryMax = null;
+        if (random.nextInt(100) >= 15) {
+            double base = SENIORITY_BASE_SALARY[seniority] * (0.8 + random.nextDouble() * 0.5);
+            double spread = 1.15 + random.nextDouble() * 0.35;
+            double divisor = hourly ? 2080 : 1;
+            salaryMin = BigDecimal.valueOf(base / divisor).setScale(hourly ? 2 : 0, RoundingMode.HALF_UP);
+            salaryMax = BigDecimal.valueOf(base * spread / divisor).setScale(hourly ? 2 : 0, RoundingMode.HALF_UP);
+        }
+        int minYears = SENIORITY_MIN_YEARS[seniority] + random.nextInt(2);
+
+        String status = pickStatus(random);
+        LocalDateTime createdAt = recent(random, 2 * 365);
+        LocalDateTime publishedAt = status.equals("DRAFT") ? null : createdAt.plusMinutes(random.nextInt(48 * 60));
+        LocalDateTime expiresAt = publishedAt == null ? null : publishedAt.plusDays(30L * (1 + random.nextInt(3)));
+        LocalDateTime closedAt = status.equals("CLOSED") && publishedAt != null
+                ? between(random, publishedAt, earliest(expiresAt, asOf)) : null;
+        LocalDateTime updatedAt = closedAt != null ? closedAt
+                : between(random, createdAt, earliest(createdAt.plusDays(7), asOf));
+        String location = Vocabulary.CITIES[cityPopularity.sample(random)];
+
+        out.number(id)
+                .text(title)
+                .text(description(random, role, primarySkill, secondarySkill))
+                .text(random.nextInt(10) < 3 ? "EXT-" + id : null)
+                .number(companyPopularity.sample(random) + 1L)
+                .number(2 + random.nextLong(recruiters))
+                .text(location)
+                .text(location.equals("Remote") ? "REMOTE" : random.nextInt(3) == 0 ? "HYBRID" : "ON_SITE")
+                .decimal(salaryMin)
+                .decimal(salaryMax)
+                .text(location.endsWith("Sri Lanka") && random.nextBoolean() ? "LKR" : "USD")
+                .text(hourly ? "HOURLY" : "ANNUAL")
+                .text(employmentType)
+                .text(SENIORITY[seniority])
+                .number(minYears)
+                .number(random.nextInt(4) == 0 ? null : minYears + 2 + random.nextInt(4))
+                // job_skills.is_required defaults to true, so every skill counts as required
+                .number(skills.length)
+                .number(benefitsFor(id).length)
+                .number(status.equals("DRAFT") ? 0 : (int) Math.min(5_000, Math.round(Math.exp(random.nextDouble() * 6))))
+                .number(status.equals("DRAFT") ? 0 : (int) Math.min(200_000, Math.round(Math.exp(random.nextDouble() * 10))))
+                .text(status)
+                .text(random.nextInt(50) == 0 ? "INTERNAL" : "PUBLIC")
+                .bool(random.nextInt(20) == 0)
+                .timestamp(createdAt)
+                .timestamp(updatedAt)
+                .timestamp(publishedAt)
+                .timestamp(expiresAt)
+                .timestamp(closedAt)
+                .endRow();
+    }
+
+    void jobSkills(long jobId, CopyWriter out) throws SQLException {
+        for (int skillId : skillsFor(jobId)) {
+            out.number(jobId).number(skillId).endRow();
+        }
+    }
+
+    void jobBenefits(long jobId, CopyWriter out) throws SQLException {
+        for (int benefitId : benefitsFor(jobId)) {
+            out.number(jobId).number(benefitId).endRow();
+        }
+    }
+
+    // Distinct skill ids for a job, popular skills far more likely
+    private int[] skillsFor(long jobId) {
+        SplittableRandom random = RowRandom.of(seed, RowRandom.JOB_SKILLS, jobId);
+        return distinctSample(random, skillPopularity, random.nextInt(3, MAX_SKILLS_PER_JOB + 1));
+    }
+
+    private int[] benefitsFor(long jobId) {
+        SplittableRandom random = RowRandom.of(seed, RowRandom.JOB_BENEFITS, jobId);
+        return distinctSample(random, benefitPopularity, random.nextInt(MAX_BENEFITS_PER_JOB + 1));
+    }
+
+    private static int[] distinctSample(SplittableRandom random, Zipf zipf, int count) {
+        int[] picked = new int[Math.min(count, zipf.size())];
+        int size = 0;
+        while (size < picked.length) {
+            int candidate = zipf.sample(random) + 1;
+            boolean seen = false;
+            for (int i = 0; i < size && !seen; i++) {
+                seen = picked[i] == candidate;
+            }
+            if (!seen) {
+                picked[size++] = candidate;
+            }
+        }
+        return picked;
+    }
+
+    // === TEXT AND DISTRIBUTIONS ===
+
+    private String description(SplittableRandom random, String role, String primarySkill, String secondarySkill) {
+        int sentences = random.nextInt(4, 11);
+        StringBuilder text = new StringBuilder(sentences * 80);
+        for (int i = 0; i < sentences; i++) {
+            // The opening sentence names the role; the rest are drawn from the remaining sentences
+            String sentence = Vocabulary.DESCRIPTION_SENTENCES[
+                    i == 0 ? 0 : random.nextInt(1, Vocabulary.DESCRIPTION_SENTENCES.length)];
+            String argument = i == 0 ? role.toLowerCase(Locale.ROOT) : random.nextBoolean() ? primarySkill : secondarySkill;
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(sentence.contains("%s") ? String.format(sentence, argument) : sentence);
+        }
+        return text.toString();
+    }
+
+    private String skillName(int skillId) {
+        String[] base = Vocabulary.SKILLS[(skillId - 1) % Vocabulary.SKILLS.length];
+        return qualified(base[0], skillId, Vocabulary.SKILLS.length, Vocabulary.SKILL_QUALIFIERS);
+    }
+
+    // Unique names past the end of the base list: "Advanced Java", ..., then "Advanced Java 2"
+    private static String qualified(String base, long id, int baseCount, String[] qualifiers) {
+        long round = (id - 1) / baseCount;
+        if (round == 0) {
+            return base;
+        }
+        long qualifier = (round - 1) % qualifiers.length;
+        long cycle = (round - 1) / qualifiers.length;
+        return qualifiers[(int) qualifier] + " " + base + (cycle == 0 ? "" : " " + (cycle + 1));
+    }
+
+    private static String companyName(long id) {
+        long index = id - 1;
+        int adjectives = Vocabulary.COMPANY_ADJECTIVES.length;
+        int nouns = Vocabulary.COMPANY_NOUNS.length;
+        int suffixes = Vocabulary.COMPANY_SUFFIXES.length;
+        long combos = (long) adjectives * nouns * suffixes;
+        String name = Vocabulary.COMPANY_ADJECTIVES[(int) (index % adjectives)] + " "
+                + Vocabulary.COMPANY_NOUNS[(int) (index / adjectives % nouns)] + " "
+                + Vocabulary.COMPANY_SUFFIXES[(int) (index / adjectives / nouns % suffixes)];
+        return index < combos ? name : name + " " + (index / combos + 1);
+    }
+
+    private static int pickSeniority(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 15 ? 0 : roll < 50 ? 1 : roll < 85 ? 2 : roll < 97 ? 3 : 4;
+    }
+
+    private static String pickEmploymentType(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 75 ? "FULL_TIME" : roll < 85 ? "CONTRACT" : roll < 92 ? "PART_TIME"
+                : roll < 97 ? "INTERNSHIP" : "TEMPORARY";
+    }
+
+    private static String pickStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        return roll < 70 ? "ACTIVE" : roll < 82 ? "CLOSED" : roll < 92 ? "EXPIRED" : roll < 97 ? "INACTIVE" : "DRAFT";
+    }
+
+    // Skewed toward the as-of date: most rows are recent, a tail goes back maxDays
+    private LocalDateTime recent(SplittableRandom random, int maxDays) {
+        double u = random.nextDouble();
+        long seconds = (long) (u * u * maxDays * 86_400L);
+        return asOf.minusSeconds(seconds);
+    }
+
+    private static LocalDateTime between(SplittableRandom random, LocalDateTime from, LocalDateTime to) {
+        long span = Duration.between(from, to).getSeconds();
+        return span <= 0 ? from : from.plusSeconds(random.nextLong(span));
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // BCrypt salt drawn from the seed so reruns produce byte-identical user rows
+    private static String hashPassword(long seed) {
+        try {
+            SecureRandom salt = SecureRandom.getInstance("SHA1PRNG");
+            salt.setSeed(RowRandom.of(seed, RowRandom.PASSWORD, 0).nextLong());
+            return BCrypt.hashpw(PASSWORD, BCrypt.gensalt(12, salt));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA1PRNG is not available", e);
+        }
+    }
+}
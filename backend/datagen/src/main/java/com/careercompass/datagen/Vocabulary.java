@@ -0,0 +1,135 @@
+package com.careercompass.datagen;
+
+/**
+ * Word lists the generated rows are assembled from. Lists used with a Zipf
+ * distribution are ordered most common first.
+ */
+final class Vocabulary {
+
+    private Vocabulary() {
+    }
+
+    static final String[] FIRST_NAMES = {
+            "James", "Mary", "Amal", "Nimali", "John", "Priya", "Robert", "Fatima", "Michael", "Chen",
+            "David", "Aisha", "Kasun", "Maria", "Daniel", "Sofia", "Ahmed", "Emma", "Ravi", "Olivia",
+            "Tharindu", "Yuki", "Lucas", "Hana", "Noah", "Anjali", "Ethan", "Sara", "Dinesh", "Grace",
+            "Omar", "Chloe", "Kavindu", "Mei", "Samuel", "Ishara", "Leo", "Zara", "Arjun", "Nadia"
+    };
+
+    static final String[] LAST_NAMES = {
+            "Perera", "Smith", "Fernando", "Johnson", "Silva", "Williams", "Kumar", "Brown", "Jayasinghe", "Garcia",
+            "Wang", "Miller", "Bandara", "Davis", "Khan", "Rodriguez", "Dissanayake", "Martinez", "Li", "Wilson",
+            "Herath", "Anderson", "Tanaka", "Thomas", "Rajapaksa", "Moore", "Nguyen", "Taylor", "Wickramasinghe", "Lee",
+            "Gunawardena", "Clark", "Patel", "Lewis", "Senanayake", "Walker", "Kim", "Hall", "Ekanayake", "Young"
+    };
+
+    static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "outlook.com", "yahoo.com", "example.com", "proton.me", "icloud.com"
+    };
+
+    static final String[] CITIES = {
+            "Colombo, Sri Lanka", "Remote", "London, United Kingdom", "Bangalore, India", "New York, NY",
+            "San Francisco, CA", "Singapore", "Berlin, Germany", "Toronto, Canada", "Sydney, Australia",
+            "Austin, TX", "Seattle, WA", "Dubai, UAE", "Amsterdam, Netherlands", "Kandy, Sri Lanka",
+            "Chennai, India", "Dublin, Ireland", "Boston, MA", "Paris, France", "Melbourne, Australia",
+            "Hyderabad, India", "Chicago, IL", "Stockholm, Sweden", "Tokyo, Japan", "Galle, Sri Lanka",
+            "Kuala Lumpur, Malaysia", "Zurich, Switzerland", "Denver, CO", "Lisbon, Portugal", "Warsaw, Poland",
+            "Vancouver, Canada", "Atlanta, GA", "Madrid, Spain", "Auckland, New Zealand", "Jaffna, Sri Lanka",
+            "Cape Town, South Africa", "Manila, Philippines", "Sao Paulo, Brazil", "Nairobi, Kenya", "Ho Chi Minh City, Vietnam"
+    };
+
+    static final String[] ROLES = {
+            "Software Engineer", "Backend Engineer", "Full Stack Developer", "Frontend Engineer", "Data Engineer",
+            "DevOps Engineer", "QA Engineer", "Data Scientist", "Mobile Developer", "Product Manager",
+            "Site Reliability Engineer", "Machine Learning Engineer", "Business Analyst", "UI/UX Designer",
+            "Cloud Architect", "Security Engineer", "Database Administrator", "Engineering Manager",
+            "Technical Writer", "Solutions Architect", "Platform Engineer", "Data Analyst", "Scrum Master",
+            "Support Engineer", "Embedded Software Engineer"
+    };
+
+    static final String[] SENIORITY_TITLES = {"Junior", "", "Senior", "Lead", "Head of"};
+
+    // Name and category pairs, most in-demand first
+    static final String[][] SKILLS = {
+            {"Java", "Programming"}, {"Python", "Programming"}, {"JavaScript", "Programming"}, {"SQL", "Database"},
+            {"React", "Frontend"}, {"AWS", "Cloud"}, {"Spring Boot", "Framework"}, {"Docker", "DevOps"},
+            {"TypeScript", "Programming"}, {"Kubernetes", "DevOps"}, {"PostgreSQL", "Database"}, {"Git", "Tools"},
+            {"Node.js", "Backend"}, {"REST APIs", "Backend"}, {"Linux", "Infrastructure"}, {"C#", "Programming"},
+            {"Azure", "Cloud"}, {"Go", "Programming"}, {"Angular", "Frontend"}, {"Terraform", "DevOps"},
+            {"MongoDB", "Database"}, {"Kafka", "Data"}, {"Redis", "Database"}, {"GCP", "Cloud"},
+            {"Microservices", "Architecture"}, {"CI/CD", "DevOps"}, {"HTML", "Frontend"}, {"CSS", "Frontend"},
+            {"Machine Learning", "Data"}, {"Spark", "Data"}, {"Kotlin", "Programming"}, {"Vue.js", "Frontend"},
+            {"GraphQL", "Backend"}, {"Hibernate", "Framework"}, {"MySQL", "Database"}, {"Scala", "Programming"},
+            {"Rust", "Programming"}, {"Swift", "Mobile"}, {"Flutter", "Mobile"}, {"Android", "Mobile"},
+            {"iOS", "Mobile"}, {"Pandas", "Data"}, {"TensorFlow", "Data"}, {"PyTorch", "Data"},
+            {"Airflow", "Data"}, {"Elasticsearch", "Database"}, {"RabbitMQ", "Backend"}, {"Jenkins", "DevOps"},
+            {"Ansible", "DevOps"}, {"Prometheus", "Observability"}, {"Grafana", "Observability"},
+            {"Selenium", "Testing"}, {"JUnit", "Testing"}, {"Cypress", "Testing"}, {"Figma", "Design"},
+            {"Agile", "Process"}, {"Scrum", "Process"}, {"System Design", "Architecture"},
+            {"Data Modeling", "Database"}, {"Snowflake", "Data"}, {"dbt", "Data"}, {"Tableau", "Analytics"},
+            {"Power BI", "Analytics"}, {"Excel", "Analytics"}, {"C++", "Programming"}, {"PHP", "Programming"},
+            {"Laravel", "Framework"}, {"Django", "Framework"}, {"FastAPI", "Framework"}, {".NET", "Framework"},
+            {"Next.js", "Frontend"}, {"Svelte", "Frontend"}, {"OAuth", "Security"}, {"OWASP", "Security"},
+            {"Networking", "Infrastructure"}, {"Bash", "Tools"}, {"Helm", "DevOps"}, {"Istio", "DevOps"},
+            {"Cassandra", "Database"}, {"DynamoDB", "Database"}, {"BigQuery", "Data"}, {"Flink", "Data"},
+            {"OpenTelemetry", "Observability"}, {"Embedded C", "Programming"}, {"RTOS", "Embedded"}
+    };
+
+    // Prefixes that turn the base skills into distinct, plausible long-tail skills
+    static final String[] SKILL_QUALIFIERS = {
+            "Advanced", "Applied", "Distributed", "Enterprise", "Cloud-native", "Secure", "Scalable", "Modern"
+    };
+
+    static final String[][] BENEFITS = {
+            {"Health Insurance", "Insurance"}, {"Remote Work", "Flexibility"}, {"Paid Time Off", "Leave"},
+            {"Flexible Hours", "Flexibility"}, {"Annual Bonus", "Compensation"}, {"Learning Budget", "Growth"},
+            {"Retirement Plan", "Retirement"}, {"Stock Options", "Equity"}, {"Dental Insurance", "Insurance"},
+            {"Parental Leave", "Leave"}, {"Home Office Stipend", "Flexibility"}, {"Gym Membership", "Wellness"},
+            {"Free Lunch", "Perks"}, {"Conference Travel", "Growth"}, {"Mental Health Support", "Wellness"},
+            {"Life Insurance", "Insurance"}, {"Vision Insurance", "Insurance"}, {"Commuter Benefits", "Perks"},
+            {"Sabbatical", "Leave"}, {"Profit Sharing", "Compensation"}, {"Relocation Assistance", "Perks"},
+            {"Employee Discounts", "Perks"}, {"Childcare Support", "Family"}, {"Visa Sponsorship", "Perks"},
+            {"Four-Day Week", "Flexibility"}, {"Wellness Allowance", "Wellness"}, {"Laptop of Choice", "Perks"},
+            {"Team Retreats", "Culture"}, {"Volunteer Days", "Culture"}, {"Tuition Reimbursement", "Growth"}
+    };
+
+    static final String[] BENEFIT_QUALIFIERS = {"Enhanced", "Family", "Extended", "Premium"};
+
+    static final String[] COMPANY_ADJECTIVES = {
+            "Blue", "Bright", "Nimbus", "Silver", "Quantum", "Summit", "Crimson", "Lotus", "Northern", "Coral",
+            "Vertex", "Lanka", "Pioneer", "Golden", "Swift", "Cedar", "Atlas", "Harbor", "Zenith", "Emerald"
+    };
+
+    static final String[] COMPANY_NOUNS = {
+            "Labs", "Systems", "Analytics", "Digital", "Software", "Networks", "Cloud", "Dynamics", "Logic", "Works",
+            "Health", "Finance", "Robotics", "Media", "Commerce", "Energy", "Mobility", "Data", "Security", "Studio"
+    };
+
+    static final String[] COMPANY_SUFFIXES = {"Inc", "Ltd", "LLC", "PLC", "Group", "Technologies", "Solutions", "Co"};
+
+    static final String[] INDUSTRIES = {
+            "Technology", "Finance", "Healthcare", "E-commerce", "Education", "Telecommunications",
+            "Logistics", "Media", "Energy", "Manufacturing", "Travel", "Government"
+    };
+
+    static final String[] DESCRIPTION_SENTENCES = {
+            "We are looking for a %s to join our growing team.",
+            "You will design, build and maintain services used by thousands of customers every day.",
+            "Our stack is built around %s and we value clean, well-tested code.",
+            "You will work closely with product managers, designers and other engineers.",
+            "Strong experience with %s is essential for this role.",
+            "Familiarity with %s is a plus but not required.",
+            "You care about performance, reliability and developer experience.",
+            "We practice code review, continuous delivery and blameless postmortems.",
+            "This is a great opportunity to have real ownership of a product area.",
+            "You will mentor junior colleagues and help shape our engineering culture.",
+            "We offer a flexible working environment and a supportive team.",
+            "Candidates should be comfortable communicating with both technical and non-technical stakeholders.",
+            "You will help us scale our platform to the next order of magnitude.",
+            "Experience in an agile, fast-paced environment is highly valued.",
+            "We are committed to building a diverse and inclusive workplace.",
+            "Join us to solve interesting problems at the intersection of data and product.",
+            "You will be on a rotating on-call schedule with generous compensation.",
+            "Prior experience with %s in production will help you hit the ground running."
+    };
+}
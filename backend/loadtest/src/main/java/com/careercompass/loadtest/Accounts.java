@@ -0,0 +1,85 @@
+package com.careercompass.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Registers the user pool the authenticated scenarios act as. Accounts are
+ * unique per run so repeated runs against the same database do not collide.
+ */
+final class Accounts {
+
+    static final String PASSWORD = "LoadTest@1234";
+
+    private static final int REGISTRATION_BATCH = 16;
+
+    record Account(long userId, String email, String token) {
+    }
+
+    private final List<Account> accounts;
+
+    private Accounts(List<Account> accounts) {
+        this.accounts = accounts;
+    }
+
+    // Registered a batch at a time; password hashing is deliberately slow and sheds load when flooded
+    static Accounts register(HttpClient client, String baseUrl, int count, ObjectMapper mapper) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Account> accounts = new ArrayList<>(count);
+        List<CompletableFuture<Account>> pending = new ArrayList<>(REGISTRATION_BATCH);
+        for (int i = 0; i < count; i++) {
+            String email = "loadtest-" + runId + "-" + i + "@example.com";
+            pending.add(post(client, baseUrl + "/api/auth/register", mapper, Map.of(
+                    "email", email,
+                    "password", PASSWORD,
+                    "firstName", "Load",
+                    "lastName", "Tester"))
+                    .thenApply(body -> new Account(body.path("userId").asLong(), email, body.path("token").asText())));
+            if (pending.size() == REGISTRATION_BATCH || i == count - 1) {
+                pending.forEach(account -> accounts.add(account.join()));
+                pending.clear();
+            }
+        }
+        return new Accounts(List.copyOf(accounts));
+    }
+
+    static CompletableFuture<JsonNode> post(HttpClient client, String url, ObjectMapper mapper, Map<String, String> body) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                    .build();
+            return client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+                if (response.statusCode() / 100 != 2) {
+                    throw new IllegalStateException(url + " returned " + response.statusCode() + ": " + response.body());
+                }
+                try {
+                    return mapper.readTree(response.body());
+                } catch (Exception e) {
+                    throw new IllegalStateException("Unreadable response from " + url, e);
+                }
+            });
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    Account get(int index) {
+        return accounts.get(index % accounts.size());
+    }
+
+    int size() {
+        return accounts.size();
+    }
+}
@@ -0,0 +1,95 @@
+package com.careercompass.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcome counters and latency histograms for one endpoint name.
+ *
+ * Response time runs from when the request was scheduled to be sent, so time
+ * spent queued behind a slow server is charged to the request (corrected for
+ * coordinated omission). Service time runs from when it was actually sent
+ * and shows what the server alone took. Both are recorded in microseconds.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Recorder responseTime = new Recorder(3);
+    private final Recorder serviceTime = new Recorder(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private final Histogram responseTotal = new Histogram(3);
+    private final Histogram serviceTotal = new Histogram(3);
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, int status) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos));
+        serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    // Connection refused, reset or timed out: there is no status, but the wait still counts
+    void recordFailure(long intendedNanos, long completedNanos) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos));
+        failures.increment();
+    }
+
+    // Never sent because the in-flight cap was reached
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    // Fold everything recorded so far into the run totals
+    void harvest() {
+        responseTotal.add(responseTime.getIntervalHistogram());
+        serviceTotal.add(serviceTime.getIntervalHistogram());
+    }
+
+    String name() {
+        return name;
+    }
+
+    Histogram responseTimes() {
+        return responseTotal;
+    }
+
+    Histogram serviceTimes() {
+        return serviceTotal;
+    }
+
+    Map<Integer, Long> statusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    long succeeded() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() / 100 == 2)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    long completed() {
+        return statuses.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
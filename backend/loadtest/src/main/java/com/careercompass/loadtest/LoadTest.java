@@ -0,0 +1,86 @@
+package com.careercompass.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Runs one scenario against a running backend and writes the reports.
+ *
+ * Usage: java -jar loadtest.jar --scenario=mixed --rate=2000 --duration=120
+ *   scenarios: browse, dashboard, login, upload, mixed, overload
+ *   other options: --base-url, --warmup, --users, --max-in-flight, --timeout, --seed, --out
+ *
+ * Start the backend with RATE_LIMIT_ENABLED=false, otherwise the per-user
+ * quota rather than the application is what gets measured.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper mapper = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.printf("Registering %d users against %s...%n", options.users(), options.baseUrl());
+        Accounts accounts = Accounts.register(client, options.baseUrl(), options.users(), mapper);
+
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> companyIds = new ArrayList<>();
+        sampleJobs(client, options.baseUrl(), accounts.get(0).token(), mapper, jobIds, companyIds);
+        System.out.printf("Sampled %d job ids and %d company ids%n", jobIds.size(), companyIds.size());
+
+        Scenarios scenarios = new Scenarios(options.baseUrl(), accounts, jobIds, companyIds,
+                Duration.ofSeconds(options.timeoutSeconds()));
+        Scenarios.Scenario scenario = scenarios.named(options.scenario());
+
+        System.out.printf("Running '%s' at %d req/s: %d s warm-up, %d s measured%n",
+                options.scenario(), options.rate(), options.warmupSeconds(), options.durationSeconds());
+        OpenLoadGenerator generator = new OpenLoadGenerator(client, options);
+        generator.run(scenario);
+
+        Report report = new Report(options, generator);
+        report.write(mapper);
+        report.print();
+        System.exit(0);
+    }
+
+    // Real ids for the detail and per-company endpoints, taken from the first pages of active jobs
+    private static void sampleJobs(HttpClient client, String baseUrl, String token, ObjectMapper mapper,
+                                   List<Long> jobIds, List<Long> companyIds) throws Exception {
+        Set<Long> companies = new LinkedHashSet<>();
+        for (int page = 0; page < 5; page++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/jobs/active?size=100&page=" + page))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Accept", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                break;
+            }
+            JsonNode content = mapper.readTree(response.body()).path("content");
+            if (content.isEmpty()) {
+                break;
+            }
+            for (JsonNode job : content) {
+                jobIds.add(job.path("id").asLong());
+                if (job.hasNonNull("companyId")) {
+                    companies.add(job.path("companyId").asLong());
+                }
+            }
+        }
+        companyIds.addAll(companies);
+    }
+}
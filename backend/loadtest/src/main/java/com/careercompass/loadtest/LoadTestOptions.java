@@ -0,0 +1,49 @@
+package com.careercompass.loadtest;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as --name=value.
+ */
+record LoadTestOptions(
+        String baseUrl,
+        String scenario,
+        int rate,
+        int warmupSeconds,
+        int durationSeconds,
+        int users,
+        int maxInFlight,
+        int timeoutSeconds,
+        long seed,
+        Path outputDir) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String scenario = values.getOrDefault("scenario", "mixed");
+        LoadTestOptions options = new LoadTestOptions(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                scenario,
+                Integer.parseInt(values.getOrDefault("rate", "500")),
+                Integer.parseInt(values.getOrDefault("warmup", "15")),
+                Integer.parseInt(values.getOrDefault("duration", "60")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+                Integer.parseInt(values.getOrDefault("timeout", "30")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("out", "target/loadtest/" + scenario)));
+        if (options.rate < 1 || options.durationSeconds < 1 || options.users < 1 || options.maxInFlight < 1) {
+            throw new IllegalArgumentException("Rate, duration, users and max-in-flight must be positive");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,119 @@
+package com.careercompass.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are started on a fixed schedule of rate per
+ * second regardless of how many are still outstanding, the way independent
+ * users arrive. A closed loop that waits for each response before sending
+ * the next would slow down with the server and hide its queueing delay.
+ *
+ * Requests are sent with the non-blocking HttpClient, so one scheduler
+ * thread can sustain thousands of arrivals per second. Anything scheduled
+ * during the warm-up is sent but not recorded.
+ */
+final class OpenLoadGenerator {
+
+    record Second(int second, long completed, double p50Ms, double p99Ms) {
+    }
+
+    private final HttpClient client;
+    private final LoadTestOptions options;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private final Recorder interval = new Recorder(3);
+    private final List<Second> timeline = new ArrayList<>();
+
+    OpenLoadGenerator(HttpClient client, LoadTestOptions options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    void run(Scenarios.Scenario scenario) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+        SplittableRandom random = new SplittableRandom(options.seed());
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleAtFixedRate(() -> tick(measureStart), TimeUnit.NANOSECONDS.toMillis(measureStart - System.nanoTime()),
+                1000, TimeUnit.MILLISECONDS);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Scenarios.Call call = scenario.next(random);
+            EndpointStats stats = intended >= measureStart
+                    ? endpoints.computeIfAbsent(call.name(), EndpointStats::new) : null;
+            if (!inFlight.tryAcquire()) {
+                if (stats != null) {
+                    stats.recordDropped();
+                }
+                continue;
+            }
+
+            long sent = System.nanoTime();
+            client.sendAsync(call.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long done = System.nanoTime();
+                        inFlight.release();
+                        if (stats == null) {
+                            return;
+                        }
+                        if (response != null) {
+                            stats.record(intended, sent, done, response.statusCode());
+                        } else {
+                            stats.recordFailure(intended, done);
+                        }
+                        interval.recordValue(TimeUnit.NANOSECONDS.toMicros(done - intended));
+                    });
+        }
+
+        // Let outstanding requests finish so the tail is measured, not cut off
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeoutSeconds(), TimeUnit.SECONDS)) {
+            System.out.printf("%d requests still outstanding after %d s; they are not counted%n",
+                    options.maxInFlight() - inFlight.availablePermits(), options.timeoutSeconds());
+        }
+        ticker.shutdownNow();
+        tick(measureStart);
+        endpoints.values().forEach(EndpointStats::harvest);
+    }
+
+    Collection<EndpointStats> endpoints() {
+        return endpoints.values();
+    }
+
+    List<Second> timeline() {
+        return timeline;
+    }
+
+    private synchronized void tick(long measureStart) {
+        Histogram second = interval.getIntervalHistogram();
+        int index = (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - measureStart);
+        timeline.add(new Second(index, second.getTotalCount(),
+                second.getValueAtPercentile(50) / 1000.0, second.getValueAtPercentile(99) / 1000.0));
+    }
+}
@@ -0,0 +1,171 @@
+package com.careercompass.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the results of a run: report.json for tooling, report.html for
+ * people, and one HdrHistogram percentile distribution (.hgrm) per endpoint
+ * that can be plotted or compared between runs.
+ */
+final class Report {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final LoadTestOptions options;
+    private final List<EndpointStats> endpoints;
+    private final List<OpenLoadGenerator.Second> timeline;
+
+    Report(LoadTestOptions options, OpenLoadGenerator generator) {
+        this.options = options;
+        this.endpoints = generator.endpoints().stream()
+                .sorted(Comparator.comparing(EndpointStats::name))
+                .toList();
+        this.timeline = generator.timeline();
+    }
+
+    void write(ObjectMapper mapper) throws IOException {
+        Path dir = options.outputDir();
+        Files.createDirectories(dir);
+        Map<String, Object> summary = summary();
+        mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(dir.resolve("report.json").toFile(), summary);
+        Files.writeString(dir.resolve("report.html"), html(summary, mapper), StandardCharsets.UTF_8);
+        for (EndpointStats stats : endpoints) {
+            try (PrintStream out = new PrintStream(dir.resolve(stats.name() + ".hgrm").toFile(), StandardCharsets.UTF_8)) {
+                // Recorded in microseconds, written in milliseconds
+                stats.responseTimes().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    void print() {
+        System.out.printf("%n%-18s %9s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointStats stats : endpoints) {
+            Histogram h = stats.responseTimes();
+            System.out.printf("%-18s %9d %8d %8d %10.1f %10.1f %10.1f %10.1f%n",
+                    stats.name(), stats.completed() + stats.failures(),
+                    stats.completed() - stats.succeeded() + stats.failures(), stats.dropped(),
+                    ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(99)),
+                    ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()));
+        }
+        System.out.printf("%nAchieved %.1f req/s against a target of %d req/s. Reports in %s%n",
+                achievedRate(), options.rate(), options.outputDir().toAbsolutePath());
+    }
+
+    private Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", options.scenario());
+        summary.put("baseUrl", options.baseUrl());
+        summary.put("targetRate", options.rate());
+        summary.put("achievedRate", achievedRate());
+        summary.put("warmupSeconds", options.warmupSeconds());
+        summary.put("durationSeconds", options.durationSeconds());
+        summary.put("users", options.users());
+        summary.put("endpoints", endpoints.stream().map(this::endpoint).toList());
+        summary.put("timeline", timeline);
+        return summary;
+    }
+
+    private Map<String, Object> endpoint(EndpointStats stats) {
+        Map<String, Object> endpoint = new LinkedHashMap<>();
+        endpoint.put("name", stats.name());
+        endpoint.put("requests", stats.completed() + stats.failures());
+        endpoint.put("succeeded", stats.succeeded());
+        endpoint.put("statusCounts", stats.statusCounts());
+        endpoint.put("failures", stats.failures());
+        endpoint.put("dropped", stats.dropped());
+        endpoint.put("responseTimeMs", latency(stats.responseTimes()));
+        endpoint.put("serviceTimeMs", latency(stats.serviceTimes()));
+        return endpoint;
+    }
+
+    private static Map<String, Double> latency(Histogram histogram) {
+        Map<String, Double> latency = new LinkedHashMap<>();
+        latency.put("mean", histogram.getTotalCount() == 0 ? 0 : ms(histogram.getMean()));
+        for (double percentile : PERCENTILES) {
+            latency.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                    ms(histogram.getValueAtPercentile(percentile)));
+        }
+        latency.put("max", ms(histogram.getMaxValue()));
+        return latency;
+    }
+
+    private double achievedRate() {
+        long total = endpoints.stream().mapToLong(stats -> stats.completed() + stats.failures()).sum();
+        return (double) total / options.durationSeconds();
+    }
+
+    // Self-contained page: summary table plus the per-second p99 as an inline SVG line
+    private String html(Map<String, Object> summary, ObjectMapper mapper) throws IOException {
+        StringBuilder rows = new StringBuilder();
+        for (EndpointStats stats : endpoints) {
+            Histogram response = stats.responseTimes();
+            Histogram service = stats.serviceTimes();
+            rows.append(String.format(
+                    "<tr><td>%s</td><td>%d</td><td>%d</td><td>%d</td><td>%d</td>"
+                            + "<td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%.1f</td></tr>%n",
+                    stats.name(), stats.completed() + stats.failures(),
+                    stats.completed() - stats.succeeded(), stats.failures(), stats.dropped(),
+                    ms(response.getValueAtPercentile(50)), ms(response.getValueAtPercentile(99)),
+                    ms(response.getValueAtPercentile(99.9)), ms(response.getMaxValue()),
+                    ms(service.getValueAtPercentile(99))));
+        }
+
+        double maxP99 = timeline.stream().mapToDouble(OpenLoadGenerator.Second::p99Ms).max().orElse(1);
+        int width = 800;
+        int height = 200;
+        StringBuilder points = new StringBuilder();
+        for (OpenLoadGenerator.Second second : timeline) {
+            double x = timeline.size() <= 1 ? 0 : (double) second.second() / Math.max(1, options.durationSeconds()) * width;
+            double y = height - second.p99Ms() / Math.max(maxP99, 1e-9) * height;
+            points.append(String.format("%.1f,%.1f ", Math.min(x, width), y));
+        }
+
+        return """
+                <!DOCTYPE html>
+                <html><head><meta charset="utf-8"><title>CareerCompass load test: %s</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                td, th { border: 1px solid #ccc; padding: 4px 10px; text-align: right; }
+                td:first-child, th:first-child { text-align: left; }
+                svg { border: 1px solid #ccc; }
+                </style></head><body>
+                <h1>Load test: %s</h1>
+                <p>%s at %d req/s target, %.1f req/s achieved, for %d s after %d s warm-up with %d users.</p>
+                <p>Response time is measured from the scheduled send time (corrected for coordinated omission);
+                service time from the actual send.</p>
+                <table>
+                <tr><th>endpoint</th><th>requests</th><th>non-2xx</th><th>failures</th><th>dropped</th>
+                <th>p50 ms</th><th>p99 ms</th><th>p99.9 ms</th><th>max ms</th><th>service p99 ms</th></tr>
+                %s</table>
+                <h2>p99 response time per second (peak %.1f ms)</h2>
+                <svg width="%d" height="%d"><polyline fill="none" stroke="#c33" stroke-width="2" points="%s"/></svg>
+                <h2>Raw summary</h2>
+                <pre>%s</pre>
+                </body></html>
+                """.formatted(options.scenario(), options.scenario(), options.baseUrl(), options.rate(), achievedRate(),
+                options.durationSeconds(), options.warmupSeconds(), options.users(), rows, maxP99, width, height,
+                points, escape(mapper.writer(SerializationFeature.INDENT_OUTPUT).writeValueAsString(summary)));
+    }
+
+    private static double ms(double micros) {
+        return micros / 1000.0;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
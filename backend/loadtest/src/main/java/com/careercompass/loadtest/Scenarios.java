@@ -0,0 +1,182 @@
+package com.careercompass.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * The request mixes the harness can drive. Each scenario turns a random
+ * draw into the next request to send; the load generator decides when.
+ *
+ * Every /api/jobs endpoint requires a token in this application, so the
+ * browsing mix also carries one, spread across the registered accounts.
+ */
+final class Scenarios {
+
+    private static final List<String> SEARCH_TERMS = List.of(
+            "java", "engineer", "senior", "python", "remote", "data", "frontend", "manager", "devops", "analyst");
+    private static final List<String> LOCATIONS = List.of(
+            "Colombo, Sri Lanka", "Remote", "London, United Kingdom", "Bangalore, India", "New York, NY");
+
+    // Small but valid PDF so uploads pass content validation
+    private static final byte[] PDF = "%PDF-1.4\n1 0 obj<<>>endobj\ntrailer<<>>\n%%EOF\n".repeat(64)
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @FunctionalInterface
+    interface Scenario {
+        Call next(SplittableRandom random);
+    }
+
+    // One request, labelled with the endpoint name it is reported under
+    record Call(String name, HttpRequest request) {
+    }
+
+    private final String baseUrl;
+    private final Accounts accounts;
+    private final List<Long> jobIds;
+    private final List<Long> companyIds;
+    private final Duration timeout;
+
+    Scenarios(String baseUrl, Accounts accounts, List<Long> jobIds, List<Long> companyIds, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.accounts = accounts;
+        this.jobIds = jobIds;
+        this.companyIds = companyIds;
+        this.timeout = timeout;
+    }
+
+    Scenario named(String name) {
+        return switch (name) {
+            case "browse" -> this::browse;
+            case "dashboard" -> this::dashboard;
+            case "login" -> this::login;
+            case "upload" -> this::upload;
+            case "mixed" -> this::mixed;
+            case "overload" -> this::overload;
+            default -> throw new IllegalArgumentException(
+                    "Unknown scenario " + name + "; use browse, dashboard, login, upload, mixed or overload");
+        };
+    }
+
+    // Production-like blend: mostly browsing, a steady trickle of logins and uploads
+    private Call mixed(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 60) {
+            return browse(random);
+        }
+        if (roll < 85) {
+            return dashboard(random);
+        }
+        return roll < 95 ? login(random) : upload(random);
+    }
+
+    // Search surge: expensive searches crowd out the logins and detail lookups that should survive it
+    private Call overload(SplittableRandom random) {
+        Accounts.Account account = anyAccount(random);
+        int roll = random.nextInt(100);
+        if (roll < 55) {
+            return get("jobs.search", "/api/jobs/search?query=" + pick(random, SEARCH_TERMS)
+                    + "&page=" + random.nextInt(20) + "&size=50", account);
+        }
+        if (roll < 65) {
+            return get("jobs.byLocation", "/api/jobs/location/" + encode(pick(random, LOCATIONS))
+                    + "?page=" + random.nextInt(20) + "&size=50", account);
+        }
+        if (roll < 85 && !jobIds.isEmpty()) {
+            return get("jobs.byId", "/api/jobs/" + pick(random, jobIds), account);
+        }
+        if (roll < 92) {
+            return get("auth.me", "/api/auth/me", account);
+        }
+        return login(random);
+    }
+
+    private Call browse(SplittableRandom random) {
+        Accounts.Account account = anyAccount(random);
+        int roll = random.nextInt(100);
+        if (roll < 30 && !jobIds.isEmpty()) {
+            return get("jobs.byId", "/api/jobs/" + pick(random, jobIds), account);
+        }
+        if (roll < 50) {
+            return get("jobs.search", "/api/jobs/search?query=" + pick(random, SEARCH_TERMS)
+                    + "&page=" + random.nextInt(3) + "&size=20", account);
+        }
+        if (roll < 65) {
+            return get("jobs.active", "/api/jobs/active?page=" + random.nextInt(5) + "&size=20", account);
+        }
+        if (roll < 75) {
+            return get("jobs.byLocation", "/api/jobs/location/" + encode(pick(random, LOCATIONS))
+                    + "?page=0&size=20", account);
+        }
+        if (roll < 85 && !companyIds.isEmpty()) {
+            return get("jobs.byCompany", "/api/jobs/company/" + pick(random, companyIds) + "?page=0&size=20", account);
+        }
+        if (roll < 93) {
+            return get("jobs.featured", "/api/jobs/featured?page=0&size=10", account);
+        }
+        return get("jobs.remote", "/api/jobs/remote?page=0&size=20", account);
+    }
+
+    private Call dashboard(SplittableRandom random) {
+        Accounts.Account account = anyAccount(random);
+        return switch (random.nextInt(6)) {
+            case 0 -> get("auth.me", "/api/auth/me", account);
+            case 1 -> get("users.byId", "/api/users/" + account.userId(), account);
+            case 2 -> get("resumes.list", "/api/resumes", account);
+            case 3 -> get("skills.all", "/api/skills/all", account);
+            case 4 -> get("benefits.all", "/api/benefits/all", account);
+            default -> get("jobs.featured", "/api/jobs/featured?page=0&size=10", account);
+        };
+    }
+
+    private Call login(SplittableRandom random) {
+        Accounts.Account account = anyAccount(random);
+        String body = "{\"email\":\"" + account.email() + "\",\"password\":\"" + Accounts.PASSWORD + "\"}";
+        return new Call("auth.login", request("/api/auth/login")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private Call upload(SplittableRandom random) {
+        Accounts.Account account = anyAccount(random);
+        String boundary = "----loadtest" + Long.toHexString(random.nextLong());
+        byte[] head = ("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] tail = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        return new Call("resumes.upload", request("/api/resumes")
+                .header("Authorization", "Bearer " + account.token())
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArrays(List.of(head, PDF, tail)))
+                .build());
+    }
+
+    private Call get(String name, String path, Accounts.Account account) {
+        return new Call(name, request(path)
+                .header("Authorization", "Bearer " + account.token())
+                .header("Accept", "application/json")
+                .GET()
+                .build());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+    }
+
+    private Accounts.Account anyAccount(SplittableRandom random) {
+        return accounts.get(random.nextInt(accounts.size()));
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
@@ -0,0 +1,60 @@
+#!/bin/bash
+
+# JMH Result Comparison for CareerCompass
+# Compares two JMH JSON result files (see run-benchmarks.sh) and flags every
+# benchmark that got worse by more than the threshold. Throughput modes
+# regress when the score drops; time modes regress when it rises.
+#
+# Usage: compare-benchmarks.sh <baseline.json> <candidate.json> [threshold %]
+# Exits 1 if anything regressed, so it can gate CI. Needs jq.
+
+set -e
+
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+BASELINE="$1"
+CANDIDATE="$2"
+THRESHOLD="${3:-10}"
+
+if [ ! -f "$BASELINE" ] || [ ! -f "$CANDIDATE" ]; then
+    echo "Usage: $0 <baseline.json> <candidate.json> [threshold %]"
+    exit 2
+fi
+
+# One line per benchmark and parameter set: key, mode, score, error, unit
+flatten() {
+    jq -r '.[] | [
+        .benchmark + (if .params then " " + ([.params | to_entries[] | "\(.key)=\(.value)"] | join(",")) else "" end),
+        .mode, .primaryMetric.score, .primaryMetric.scoreError, .primaryMetric.scoreUnit
+    ] | @tsv' "$1" | sed 's/^com\.careercompass\.benchmarks\.//'
+}
+
+REGRESSIONS=0
+printf "%-70s %12s %12s %8s  %s\n" "benchmark" "baseline" "candidate" "change" "unit"
+while IFS=$'\t' read -r key mode base_score base_error unit; do
+    line="$(flatten "$CANDIDATE" | awk -F'\t' -v k="$key" '$1 == k')"
+    if [ -z "$line" ]; then
+        printf "%-70s %12.3f %12s %8s  %s\n" "$key" "$base_score" "-" "missing" "$unit"
+        continue
+    fi
+    cand_score="$(echo "$line" | cut -f3)"
+
+    # Positive change means worse, whatever the mode
+    change="$(awk -v b="$base_score" -v c="$cand_score" -v m="$mode" \
+        'BEGIN { d = (c - b) / b * 100; if (m == "thrpt") d = -d; printf "%.1f", d }')"
+    if awk -v d="$change" -v t="$THRESHOLD" 'BEGIN { exit !(d > t) }'; then
+        color="$RED"
+        REGRESSIONS=$((REGRESSIONS + 1))
+    else
+        color="$NC"
+    fi
+    printf "${color}%-70s %12.3f %12.3f %7s%%  %s${NC}\n" "$key" "$base_score" "$cand_score" "$change" "$unit"
+done < <(flatten "$BASELINE")
+
+if [ "$REGRESSIONS" -gt 0 ]; then
+    echo -e "\n${RED}$REGRESSIONS benchmark(s) regressed by more than ${THRESHOLD}%${NC}"
+    exit 1
+fi
+echo -e "\n${GREEN}No regressions beyond ${THRESHOLD}%${NC}"
@@ -0,0 +1,78 @@
+#!/bin/bash
+
+# Thread Mode Benchmark for CareerCompass
+# Runs the search, upload and login mixes against the backend twice, once on
+# platform threads and once on virtual threads, and prints throughput and p99.
+#
+# Needs: Java 21+, k6, jq and a reachable PostgreSQL (see setup-database.sh).
+# Pinning events are logged to target/bench/<mode>.log via jdk.tracePinnedThreads.
+
+set -e
+
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$BACKEND_DIR/target/bench"
+PORT="${PORT:-8080}"
+RATE="${RATE:-200}"
+DURATION="${DURATION:-60s}"
+MIXES="${MIXES:-search upload login}"
+
+mkdir -p "$OUT_DIR"
+
+echo -e "${BLUE}Building backend...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests package)
+JAR="$(ls "$BACKEND_DIR"/target/backend-*-exec.jar | head -n 1)"
+
+run_mode() {
+    local mode="$1"
+    local virtual="false"
+    [ "$mode" = "virtual" ] && virtual="true"
+
+    echo -e "${BLUE}Starting backend on $mode threads...${NC}"
+    # Same JVM flags for both modes; rate limiting off so it does not cap the comparison
+    VIRTUAL_THREADS_ENABLED="$virtual" RATE_LIMIT_ENABLED=false SERVER_PORT="$PORT" \
+        java -Xms512m -Xmx512m -Djdk.tracePinnedThreads=short -jar "$JAR" > "$OUT_DIR/$mode.log" 2>&1 &
+    local pid=$!
+
+    for _ in $(seq 1 60); do
+        curl -sf "http://localhost:$PORT/actuator/health" > /dev/null && break
+        sleep 1
+    done
+    if ! curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; then
+        echo -e "${RED}Backend did not start; see $OUT_DIR/$mode.log${NC}"
+        kill "$pid" 2>/dev/null || true
+        exit 1
+    fi
+
+    for mix in $MIXES; do
+        echo -e "${BLUE}  $mode / $mix${NC}"
+        k6 run --quiet -e MIX="$mix" -e RATE="$RATE" -e DURATION="$DURATION" \
+            -e BASE_URL="http://localhost:$PORT" \
+            --summary-export "$OUT_DIR/$mode-$mix.json" "$SCRIPT_DIR/loadtest/thread-mode-mixes.js" > /dev/null
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform
+run_mode virtual
+
+echo -e "\n${GREEN}=== Results (rate ${RATE}/s for ${DURATION}) ===${NC}"
+printf "%-8s %-9s %10s %10s %10s\n" "mix" "mode" "req/s" "p99 ms" "failed %"
+for mix in $MIXES; do
+    for mode in platform virtual; do
+        f="$OUT_DIR/$mode-$mix.json"
+        printf "%-8s %-9s %10.1f %10.1f %10.2f\n" "$mix" "$mode" \
+            "$(jq '.metrics.http_reqs.rate' "$f")" \
+            "$(jq '.metrics.http_req_duration["p(99)"]' "$f")" \
+            "$(jq '.metrics.http_req_failed.value * 100' "$f")"
+    done
+done
+
+echo -e "\nPinned thread traces: grep -c 'pinned' $OUT_DIR/virtual.log"
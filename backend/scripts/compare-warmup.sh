@@ -0,0 +1,80 @@
+#!/bin/bash
+
+# Warm-up Comparison for CareerCompass
+# Starts the backend twice, once with WARMUP_ENABLED=false and once with the
+# warm-up on, waits for /actuator/health/readiness to report UP and then sends
+# the first minute of traffic with the loadtest harness. No load-test warm-up
+# phase is used: the point is what the first requests after readiness see.
+#
+# Needs a reachable PostgreSQL with data in it (see setup-database.sh and
+# generate-data.sh). Reports land in target/warmup/<mode>; the summary prints
+# the worst per-second p99 in the first 10 seconds and over the whole minute,
+# plus each endpoint's p99.
+
+set -e
+
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$BACKEND_DIR/target/warmup"
+PORT="${PORT:-8080}"
+RATE="${RATE:-300}"
+SCENARIO="${SCENARIO:-mixed}"
+JAVA_OPTS="${JAVA_OPTS:--Xms256m -Xmx512m}"
+
+command -v jq > /dev/null || { echo -e "${RED}jq is required${NC}"; exit 1; }
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo -e "${BLUE}Building backend and loadtest...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests package)
+(cd "$BACKEND_DIR" && ./mvnw -q -f loadtest/pom.xml -DskipTests package)
+JAR="$(ls "$BACKEND_DIR"/target/backend-*-exec.jar | head -n 1)"
+
+run() {
+    local mode="$1" enabled="$2"
+    echo -e "${BLUE}Starting backend ($mode)...${NC}"
+    SERVER_PORT="$PORT" WARMUP_ENABLED="$enabled" RATE_LIMIT_ENABLED=false \
+        java $JAVA_OPTS -jar "$JAR" > "$OUT_DIR/$mode.log" 2>&1 &
+    local pid=$!
+    local start
+    start=$(date +%s)
+    until curl -sf "http://localhost:$PORT/actuator/health/readiness" | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo -e "${RED}Backend exited during startup; see $OUT_DIR/$mode.log${NC}"
+            exit 1
+        fi
+        sleep 0.2
+    done
+    echo "Ready after $(( $(date +%s) - start )) s"
+
+    java -Xmx1g -jar "$BACKEND_DIR/loadtest/target/loadtest.jar" \
+        --base-url="http://localhost:$PORT" --scenario="$SCENARIO" --rate="$RATE" \
+        --warmup=0 --duration=60 --out="$OUT_DIR/$mode" > "$OUT_DIR/$mode-loadtest.log"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run cold false
+run warm true
+
+echo -e "\n${GREEN}=== p99 over the first minute after readiness ===${NC}"
+printf "%-6s %20s %20s\n" "mode" "worst p99 0-10s ms" "worst p99 0-60s ms"
+for mode in cold warm; do
+    report="$OUT_DIR/$mode/report.json"
+    printf "%-6s %20s %20s\n" "$mode" \
+        "$(jq '[.timeline[] | select(.second < 10) | .p99Ms] | max' "$report")" \
+        "$(jq '[.timeline[] | .p99Ms] | max' "$report")"
+done
+
+for mode in cold warm; do
+    echo -e "\n${BLUE}$mode: per-endpoint p99 (ms)${NC}"
+    jq -r '.endpoints[] | "  \(.name): \(.responseTimeMs.p99)"' "$OUT_DIR/$mode/report.json"
+done
+echo -e "\nPer-second timelines in $OUT_DIR/<mode>/report.html"
@@ -0,0 +1,86 @@
+#!/bin/bash
+
+# Load Shedding Demonstration for CareerCompass
+# Drives the "overload" scenario (a search surge mixed with job detail
+# lookups, /api/auth/me and logins) at more than the database can serve,
+# once with the adaptive concurrency limiter off and once with it on.
+#
+# The connection pool is kept small (DB_POOL_SIZE, default 4) so PostgreSQL
+# becomes the bottleneck the way a slow database would. Without the limiter
+# every endpoint queues on the pool and times out together. With it, search
+# is shed with fast 503s while auth and detail keep succeeding.
+#
+# Needs a reachable PostgreSQL with data in it (see setup-database.sh and
+# generate-data.sh). Reports land in target/load-shedding/<mode>.
+
+set -e
+
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$BACKEND_DIR/target/load-shedding"
+PORT="${PORT:-8080}"
+RATE="${RATE:-800}"
+DURATION="${DURATION:-90}"
+POOL_SIZE="${DB_POOL_SIZE:-4}"
+JAVA_OPTS="${JAVA_OPTS:--Xms256m -Xmx512m}"
+
+command -v jq > /dev/null || { echo -e "${RED}jq is required${NC}"; exit 1; }
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo -e "${BLUE}Building backend and loadtest...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests package)
+(cd "$BACKEND_DIR" && ./mvnw -q -f loadtest/pom.xml -DskipTests package)
+JAR="$(ls "$BACKEND_DIR"/target/backend-*-exec.jar | head -n 1)"
+
+run() {
+    local mode="$1" enabled="$2"
+    echo -e "${BLUE}Starting backend ($mode, pool size $POOL_SIZE)...${NC}"
+    SERVER_PORT="$PORT" DB_POOL_SIZE="$POOL_SIZE" CONCURRENCY_LIMIT_ENABLED="$enabled" \
+        RATE_LIMIT_ENABLED=false java $JAVA_OPTS -jar "$JAR" > "$OUT_DIR/$mode.log" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$PORT/actuator/health/readiness" | grep -q '"UP"'; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo -e "${RED}Backend exited during startup; see $OUT_DIR/$mode.log${NC}"
+            exit 1
+        fi
+        sleep 0.5
+    done
+
+    echo -e "${BLUE}Running overload scenario at $RATE req/s for $DURATION s...${NC}"
+    java -Xmx1g -jar "$BACKEND_DIR/loadtest/target/loadtest.jar" \
+        --base-url="http://localhost:$PORT" --scenario=overload --rate="$RATE" \
+        --duration="$DURATION" --timeout=10 --out="$OUT_DIR/$mode" > "$OUT_DIR/$mode-loadtest.log"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run unlimited false
+run limited true
+
+# Per endpoint: requests, share answered 2xx, fast 503s, errors and timeouts, p99
+summary() {
+    jq -r '.endpoints[] | [
+            .name,
+            .requests,
+            (if .requests > 0 then (100 * .succeeded / .requests | floor | tostring) + "%" else "-" end),
+            (.statusCounts["503"] // 0),
+            .failures,
+            .responseTimeMs.p99
+        ] | @tsv' "$1" \
+        | awk -F'\t' '{ printf "  %-18s %9s %8s %8s %10s %10s\n", $1, $2, $3, $4, $5, $6 }'
+}
+
+for mode in unlimited limited; do
+    echo -e "\n${GREEN}=== $mode ===${NC}"
+    printf "  %-18s %9s %8s %8s %10s %10s\n" "endpoint" "requests" "2xx" "503" "failures" "p99 ms"
+    summary "$OUT_DIR/$mode/report.json"
+done
+echo -e "\nPer-second timelines in $OUT_DIR/<mode>/report.html"
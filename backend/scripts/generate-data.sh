@@ -0,0 +1,24 @@
+#!/bin/bash
+
+# Synthetic Dataset Generator for CareerCompass
+# Builds the datagen module and loads users, companies, skills, benefits,
+# jobs (with Zipf-distributed job_skills/job_benefits) and resumes into the
+# database. Output is deterministic for a given --seed and --as-of.
+#
+# Start the backend once first so the schema exists. Examples:
+#   generate-data.sh --jobs=100000 --truncate
+#   generate-data.sh --jobs=10000000 --truncate --drop-indexes --threads=8
+# Connection defaults come from DB_URL, DB_USERNAME and DB_PASSWORD.
+
+set -e
+
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+
+echo -e "${BLUE}Building datagen...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -f datagen/pom.xml -DskipTests package)
+
+java -Xmx2g -jar "$BACKEND_DIR/datagen/target/datagen.jar" "$@"
@@ -0,0 +1,59 @@
+// k6 workload for comparing platform and virtual request threads.
+// Select the mix with MIX=search|upload|login; BASE_URL defaults to localhost:8080.
+//
+//   k6 run -e MIX=search scripts/loadtest/thread-mode-mixes.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MIX = __ENV.MIX || 'search';
+const RATE = parseInt(__ENV.RATE || '200', 10);
+const DURATION = __ENV.DURATION || '60s';
+const PASSWORD = 'Bench@1234';
+
+// Open model: arrivals do not slow down when the server does, so queueing shows up in p99
+export const options = {
+    scenarios: {
+        [MIX]: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE),
+            maxVUs: RATE * 10,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+};
+
+const SEARCH_TERMS = ['java', 'remote', 'senior', 'engineer', 'python', 'manager', 'data', 'frontend'];
+
+// Minimal valid PDF, enough to pass upload validation
+const PDF = '%PDF-1.4\n1 0 obj<<>>endobj\ntrailer<<>>\n%%EOF\n'.repeat(64);
+
+export function setup() {
+    const email = `bench-${Date.now()}@example.com`;
+    const body = JSON.stringify({ email, password: PASSWORD, firstName: 'Bench', lastName: 'User' });
+    const res = http.post(`${BASE_URL}/api/auth/register`, body, { headers: { 'Content-Type': 'application/json' } });
+    check(res, { registered: (r) => r.status === 201 });
+    return { email, token: res.json('token') };
+}
+
+export default function (data) {
+    if (MIX === 'search') {
+        const term = SEARCH_TERMS[Math.floor(Math.random() * SEARCH_TERMS.length)];
+        const res = http.get(`${BASE_URL}/api/jobs/search?query=${term}&page=0&size=20`, { tags: { name: 'search' } });
+        check(res, { ok: (r) => r.status === 200 });
+    } else if (MIX === 'upload') {
+        const res = http.post(`${BASE_URL}/api/resumes`,
+            { file: http.file(PDF, 'resume.pdf', 'application/pdf') },
+            { headers: { Authorization: `Bearer ${data.token}` }, tags: { name: 'upload' } });
+        check(res, { ok: (r) => r.status === 200 || r.status === 201 });
+    } else if (MIX === 'login') {
+        const body = JSON.stringify({ email: data.email, password: PASSWORD });
+        const res = http.post(`${BASE_URL}/api/auth/login`, body,
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } });
+        check(res, { ok: (r) => r.status === 200 || r.status === 503 });
+    }
+}
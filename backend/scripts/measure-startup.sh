@@ -0,0 +1,102 @@
+#!/bin/bash
+
+# Startup Comparison for CareerCompass
+# Measures time-to-first-request and resident memory for three run modes:
+#   baseline  java -jar on the regular executable jar
+#   cds       extracted jar with an AppCDS archive from a training run
+#   aot-cds   -Pstartup build (Spring AOT) extracted, with its own AppCDS archive
+#
+# Needs the same reachable PostgreSQL for the training runs and measurements
+# (see setup-database.sh). AOT fixes bean conditions at build time, so export
+# SPRING_PROFILES_ACTIVE and any feature switches before running this script.
+# Time-to-first-request is measured from process launch until GET /api/hello
+# answers 200; RSS is read right after that first response.
+
+set -e
+
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$BACKEND_DIR/target/startup"
+PORT="${PORT:-8080}"
+RUNS="${RUNS:-5}"
+JAVA_OPTS="${JAVA_OPTS:--Xms256m -Xmx512m}"
+
+rm -rf "$OUT_DIR"
+mkdir -p "$OUT_DIR"
+
+echo -e "${BLUE}Building baseline jar...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests package)
+cp "$(ls "$BACKEND_DIR"/target/backend-*-exec.jar | head -n 1)" "$OUT_DIR/baseline.jar"
+
+echo -e "${BLUE}Building AOT jar (-Pstartup)...${NC}"
+# No clean: that would delete $OUT_DIR. Stale AOT classes in a later plain build are ignored at runtime.
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests -Pstartup package)
+cp "$(ls "$BACKEND_DIR"/target/backend-*-exec.jar | head -n 1)" "$OUT_DIR/aot.jar"
+
+# CDS needs an exploded layout and the exact same classpath for training and use
+train() {
+    local name="$1"; shift
+    echo -e "${BLUE}Training CDS archive for $name...${NC}"
+    java -Djarmode=tools -jar "$OUT_DIR/$name.jar" extract --destination "$OUT_DIR/$name" > /dev/null
+    # Refresh the context (classes loaded, beans created) then exit, dumping the archive
+    SERVER_PORT="$PORT" java $JAVA_OPTS "$@" -XX:ArchiveClassesAtExit="$OUT_DIR/$name.jsa" \
+        -Dspring.context.exit=onRefresh -jar "$OUT_DIR/$name/$name.jar" > "$OUT_DIR/$name-training.log" 2>&1
+}
+
+train baseline
+train aot -Dspring.aot.enabled=true
+
+# One launch: prints "<ms to first request> <rss MB>"
+launch() {
+    local log="$1"; shift
+    local start end pid
+    start=$(date +%s%N)
+    SERVER_PORT="$PORT" java $JAVA_OPTS "$@" > "$log" 2>&1 &
+    pid=$!
+    for _ in $(seq 1 1200); do
+        curl -sf -o /dev/null "http://localhost:$PORT/api/hello" && break
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo -e "${RED}Backend exited during startup; see $log${NC}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    local rss
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$(( (end - start) / 1000000 )) $(( rss / 1024 ))"
+}
+
+measure() {
+    local mode="$1"; shift
+    echo -e "${BLUE}Measuring $mode ($RUNS runs)...${NC}"
+    local result
+    for run in $(seq 1 "$RUNS"); do
+        result=$(launch "$OUT_DIR/$mode-$run.log" "$@")
+        echo "$mode $result" >> "$OUT_DIR/results.txt"
+    done
+}
+
+measure baseline -jar "$OUT_DIR/baseline.jar"
+measure cds -XX:SharedArchiveFile="$OUT_DIR/baseline.jsa" -jar "$OUT_DIR/baseline/baseline.jar"
+measure aot-cds -XX:SharedArchiveFile="$OUT_DIR/aot.jsa" -Dspring.aot.enabled=true -jar "$OUT_DIR/aot/aot.jar"
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+echo -e "\n${GREEN}=== Startup comparison (median of $RUNS runs) ===${NC}"
+printf "%-9s %22s %14s\n" "mode" "first request ms" "RSS MB"
+for mode in baseline cds aot-cds; do
+    printf "%-9s %22s %14s\n" "$mode" \
+        "$(awk -v m="$mode" '$1 == m { print $2 }' "$OUT_DIR/results.txt" | median)" \
+        "$(awk -v m="$mode" '$1 == m { print $3 }' "$OUT_DIR/results.txt" | median)"
+done
+echo -e "\nRaw runs in $OUT_DIR/results.txt, startup logs in $OUT_DIR/*.log"
@@ -0,0 +1,36 @@
+#!/bin/bash
+
+# JMH Benchmarks for CareerCompass
+# Installs the backend, builds the benchmarks module and runs the suites,
+# writing machine-readable results to target/benchmarks/<name>.json.
+#
+# Usage: run-benchmarks.sh [name] [jmh args...]
+#   name defaults to the current commit; extra args go to JMH, e.g. a
+#   benchmark regex such as 'JwtServiceBenchmark' or '-f 1 -wi 1 -i 3'.
+# Compare two runs with compare-benchmarks.sh.
+
+set -e
+
+BLUE='\033[0;34m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+OUT_DIR="$BACKEND_DIR/target/benchmarks"
+NAME="${1:-$(git -C "$BACKEND_DIR" rev-parse --short HEAD)}"
+shift || true
+
+mkdir -p "$OUT_DIR"
+
+echo -e "${BLUE}Installing backend...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -DskipTests install)
+
+echo -e "${BLUE}Building benchmarks...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -f benchmarks/pom.xml package)
+
+echo -e "${BLUE}Running benchmarks as '$NAME'...${NC}"
+java -jar "$BACKEND_DIR/benchmarks/target/benchmarks.jar" \
+    -rf json -rff "$OUT_DIR/$NAME.json" "$@"
+
+echo -e "${GREEN}Results written to $OUT_DIR/$NAME.json${NC}"
@@ -0,0 +1,25 @@
+#!/bin/bash
+
+# Load Test Runner for CareerCompass
+# Builds the loadtest module and drives a running backend with an open-model
+# arrival rate. Reports (report.json, report.html and per-endpoint .hgrm
+# histograms) land in target/loadtest/<scenario> unless --out is given.
+#
+# Start the backend with RATE_LIMIT_ENABLED=false first, otherwise the per-user
+# quota is what gets measured. Examples:
+#   run-loadtest.sh --scenario=browse --rate=1000 --duration=120
+#   run-loadtest.sh --scenario=mixed --rate=2000 --users=500 --base-url=http://localhost:8080
+# Scenarios: browse, dashboard, login, upload, mixed, overload
+
+set -e
+
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+BACKEND_DIR="$(dirname "$SCRIPT_DIR")"
+
+echo -e "${BLUE}Building loadtest...${NC}"
+(cd "$BACKEND_DIR" && ./mvnw -q -f loadtest/pom.xml -DskipTests package)
+
+java -Xmx1g -jar "$BACKEND_DIR/loadtest/target/loadtest.jar" "$@"
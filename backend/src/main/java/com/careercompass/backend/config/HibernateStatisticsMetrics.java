@@ -0,0 +1,74 @@
+package com.careercompass.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes Hibernate statistics: per-region second-level cache hits, misses
+ * and puts, query cache results, and the number of JDBC statements prepared,
+ * which is the figure the caches exist to bring down.
+ */
+@Component
+@Slf4j
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!statistics.isStatisticsEnabled()) {
+            log.info("Hibernate statistics are disabled; not publishing cache metrics");
+            return;
+        }
+
+        counter(registry, "hibernate.statements.prepared", "JDBC statements prepared",
+                Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.entities.loaded", "Entities loaded from the database",
+                Statistics::getEntityLoadCount);
+        FunctionCounter.builder("hibernate.query.cache.requests", statistics, Statistics::getQueryCacheHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.query.cache.requests", statistics, Statistics::getQueryCacheMissCount)
+                .tag("result", "miss")
+                .register(registry);
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                            CacheRegionStatistics::getHitCount)
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                            CacheRegionStatistics::getMissCount)
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.second.level.cache.puts", regionStatistics,
+                            CacheRegionStatistics::getPutCount)
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+                         ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+}
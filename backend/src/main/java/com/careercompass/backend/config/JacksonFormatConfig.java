@@ -0,0 +1,51 @@
+package com.careercompass.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.cfg.EnumFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Mappers for the binary wire formats.
+ *
+ * Spring Boot builds the CBOR mapper from the same spring.jackson settings
+ * and modules as the JSON one, but has no Smile equivalent, so the Smile
+ * mapper here copies its settings from the application's JSON mapper.
+ */
+@Configuration
+public class JacksonFormatConfig {
+
+    @Bean
+    public SmileMapper smileMapper(JsonMapper jsonMapper) {
+        SerializationConfig config = jsonMapper.serializationConfig();
+        SmileMapper.Builder builder = SmileMapper.builder()
+                .addModules(jsonMapper.registeredModules())
+                .propertyNamingStrategy(config.getPropertyNamingStrategy())
+                .changeDefaultPropertyInclusion(inclusion -> config.getDefaultPropertyInclusion())
+                .defaultDateFormat(config.getDateFormat())
+                .defaultTimeZone(config.getTimeZone())
+                .defaultLocale(config.getLocale());
+        for (MapperFeature feature : MapperFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (DateTimeFeature feature : DateTimeFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        for (EnumFeature feature : EnumFeature.values()) {
+            builder.configure(feature, jsonMapper.isEnabled(feature));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.careercompass.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open EntityManager in view for every route except the ones that hash passwords.
+ *
+ * A view-scoped EntityManager holds the first connection it opens until the
+ * response is written, so on login and registration BCrypt would run with a
+ * pooled connection checked out. Those routes get a fresh EntityManager per
+ * repository call or transaction instead. Declaring the interceptor here
+ * replaces Spring Boot's, which cannot exclude paths.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenInViewConfig implements WebMvcConfigurer {
+
+    private static final String[] PASSWORD_HASHING_ROUTES = {"/api/auth/login", "/api/auth/register"};
+
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns(PASSWORD_HASHING_ROUTES);
+    }
+}
@@ -1,16 +1,48 @@
 package com.careercompass.backend.config;
 
 import com.careercompass.backend.config.properties.AppProperties;
+import com.careercompass.backend.config.properties.CatalogCacheProperties;
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.ConcurrencyLimitProperties;
+import com.careercompass.backend.config.properties.ConnectionLimitProperties;
 import com.careercompass.backend.config.properties.DatabaseProperties;
+import com.careercompass.backend.config.properties.HttpCacheProperties;
+import com.careercompass.backend.config.properties.JobCacheProperties;
+import com.careercompass.backend.config.properties.JobListingCacheProperties;
+import com.careercompass.backend.config.properties.JobSearchCacheProperties;
 import com.careercompass.backend.config.properties.JwtProperties;
+import com.careercompass.backend.config.properties.LoginAuditProperties;
+import com.careercompass.backend.config.properties.NegativeCacheProperties;
+import com.careercompass.backend.config.properties.PasswordHashingProperties;
+import com.careercompass.backend.config.properties.RateLimitProperties;
+import com.careercompass.backend.config.properties.RegistrationIndexProperties;
+import com.careercompass.backend.config.properties.ReplicaProperties;
+import com.careercompass.backend.config.properties.RepositoryMetricsProperties;
+import com.careercompass.backend.config.properties.WarmupProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableConfigurationProperties({
     AppProperties.class,
+    CatalogCacheProperties.class,
+    CoalescingProperties.class,
+    ConcurrencyLimitProperties.class,
+    ConnectionLimitProperties.class,
     DatabaseProperties.class,
-    JwtProperties.class
+    HttpCacheProperties.class,
+    JobCacheProperties.class,
+    JobListingCacheProperties.class,
+    JobSearchCacheProperties.class,
+    JwtProperties.class,
+    LoginAuditProperties.class,
+    NegativeCacheProperties.class,
+    PasswordHashingProperties.class,
+    RateLimitProperties.class,
+    RegistrationIndexProperties.class,
+    ReplicaProperties.class,
+    RepositoryMetricsProperties.class,
+    WarmupProperties.class
 })
 public class PropertyConfig {
     // This class enables @ConfigurationProperties beans
@@ -5,6 +5,7 @@ import com.careercompass.backend.config.properties.DatabaseProperties;
 import com.careercompass.backend.config.properties.JwtProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -15,8 +16,11 @@ import java.util.Map;
 /**
  * Example controller demonstrating @Value and @ConfigurationProperties usage
  * Remove this in production - it's for learning purposes only
+ *
+ * Lazy: created on first request rather than at startup, nothing on the serving path needs it
  */
 @RestController
+@Lazy
 @RequestMapping("/api/config-examples")
 @RequiredArgsConstructor
 public class PropertyExampleController {
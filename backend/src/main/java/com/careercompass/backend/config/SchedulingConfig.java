@@ -0,0 +1,10 @@
+package com.careercompass.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs (login audit flushes, cache housekeeping)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
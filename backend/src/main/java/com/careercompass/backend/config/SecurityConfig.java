@@ -4,6 +4,7 @@ import com.careercompass.backend.config.properties.AppProperties;
 import com.careercompass.backend.config.security.JwtAuthenticationFilter;
 import com.careercompass.backend.config.security.CustomAuthenticationEntryPoint;
 import com.careercompass.backend.config.security.CustomAccessDeniedHandler;
+import com.careercompass.backend.config.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final RateLimitFilter rateLimitFilter;
     
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -41,6 +43,10 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/hello").permitAll()
                 .requestMatchers("/api/config-examples/**").permitAll()
+                // Liveness and readiness probes; the other actuator endpoints stay authenticated
+                .requestMatchers("/actuator/health/**").permitAll()
+                // Admin endpoints
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 // Protected endpoints
                 .requestMatchers("/api/users/**").authenticated()
                 .requestMatchers("/api/resumes/**").authenticated()
@@ -55,7 +61,9 @@ public class SecurityConfig {
                 .accessDeniedHandler(customAccessDeniedHandler)
             )
             // Add JWT authentication filter
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // Apply per-client quotas before the caller's user is loaded
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
@@ -0,0 +1,48 @@
+package com.careercompass.backend.config;
+
+import com.careercompass.backend.config.datasource.ReadYourWritesInterceptor;
+import com.careercompass.backend.config.security.CurrentUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.util.List;
+
+/**
+ * Spring MVC customizations shared by all controllers.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    // Only present when replica routing is enabled
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
+    }
+
+    // Binary encodings use the application's mappers; their converters sit after JSON, so JSON stays the default
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
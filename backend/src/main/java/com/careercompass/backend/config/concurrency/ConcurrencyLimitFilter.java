@@ -0,0 +1,158 @@
+package com.careercompass.backend.config.concurrency;
+
+import com.careercompass.backend.config.properties.ConcurrencyLimitProperties;
+import com.careercompass.backend.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive load shedding in front of the whole filter chain.
+ *
+ * Each {@link RouteClass} has its own {@link GradientLimiter}, so a slow
+ * search does not use up the slots of logins or detail lookups. On top of
+ * that, while a class is saturated the classes in lower tiers are rejected
+ * outright, which hands the database connections they would have held to
+ * the more important traffic.
+ *
+ * The filter runs before Spring Security, so a rejected request gets its
+ * 503 with Retry-After before JWT authentication has loaded the user, i.e.
+ * without waiting for a connection or running a query. Routes are matched
+ * on method and path with the same pattern syntax as the controllers.
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 1)
+@ConditionalOnProperty(prefix = "app.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Map<RouteClass, GradientLimiter> limiters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> shedCounters = new EnumMap<>(RouteClass.class);
+    private final List<Route> routes;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final double saturation;
+    private final long retryAfterSeconds;
+
+    // One configured route; the most specific matching pattern wins
+    record Route(HttpMethod method, PathPattern pattern, RouteClass routeClass) {
+    }
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry,
+                                  @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.routes = parseRoutes(properties.getRouteClasses());
+        this.exceptionResolver = exceptionResolver;
+        this.saturation = properties.getSaturation();
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+
+        for (RouteClass routeClass : RouteClass.values()) {
+            GradientLimiter limiter = new GradientLimiter(properties.getInitialLimit(), properties.getMinLimit(),
+                    properties.getMaxLimit(), properties.getRttTolerance(), properties.getSmoothing(),
+                    properties.getLongWindow(), TimeUnit.MILLISECONDS.toNanos(properties.getSampleWindowMs()),
+                    properties.getMinWindowSamples());
+            limiters.put(routeClass, limiter);
+
+            String tag = routeClass.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("http.concurrency.limit", limiter, GradientLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("http.concurrency.in.flight", limiter, GradientLimiter::getInFlight)
+                    .description("Requests currently admitted")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            shedCounters.put(routeClass, Counter.builder("http.concurrency.shed")
+                    .description("Requests rejected by the concurrency limiter")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteClass routeClass = classify(request);
+        if (routeClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        GradientLimiter limiter = limiters.get(routeClass);
+        if (higherTierSaturated(routeClass) || !limiter.tryAcquire()) {
+            shedCounters.get(routeClass).increment();
+            exceptionResolver.resolveException(request, response, null, new ServiceOverloadedException(
+                    "Server is busy. Please retry shortly.", HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds));
+            return;
+        }
+
+        // Timeouts and errors are latency samples too
+        long startNanos = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long now = System.nanoTime();
+            limiter.release(now - startNanos, now);
+        }
+    }
+
+    RouteClass classify(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+                .pathWithinApplication();
+        for (Route route : routes) {
+            if (route.method().equals(method) && route.pattern().matches(path)) {
+                return route.routeClass();
+            }
+        }
+        return null;
+    }
+
+    private boolean higherTierSaturated(RouteClass routeClass) {
+        for (RouteClass other : RouteClass.values()) {
+            if (routeClass.yieldsTo(other) && limiters.get(other).isSaturated(saturation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Keys are "METHOD /path/pattern"
+    static List<Route> parseRoutes(Map<String, RouteClass> routeClasses) {
+        List<Route> routes = new ArrayList<>();
+        for (Map.Entry<String, RouteClass> entry : routeClasses.entrySet()) {
+            String[] parts = entry.getKey().trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Route must be \"METHOD /pattern\": " + entry.getKey());
+            }
+            routes.add(new Route(HttpMethod.valueOf(parts[0].toUpperCase(Locale.ROOT)),
+                    PathPatternParser.defaultInstance.parse(parts[1]), entry.getValue()));
+        }
+        routes.sort(Comparator.comparing(Route::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        return List.copyOf(routes);
+    }
+}
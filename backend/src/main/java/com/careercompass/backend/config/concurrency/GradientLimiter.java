@@ -0,0 +1,134 @@
+package com.careercompass.backend.config.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency.
+ *
+ * Completed requests are averaged over short sample windows, and each
+ * window's latency is compared with a baseline learnt while the limit was
+ * not in use (the no-load latency, as in TCP Vegas).
+ * While latency stays within the tolerance the limit grows by roughly its
+ * square root per window; once requests take longer than the baseline
+ * allows, the limit shrinks in proportion (by at most half per estimate).
+ * Queueing in a slow database therefore shows up as a smaller limit before
+ * threads pile up, instead of as timeouts everywhere.
+ *
+ * Admission is a CAS on the in-flight count; recording a completion is a
+ * short synchronized block.
+ */
+public class GradientLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final long windowNanos;
+    private final int minWindowSamples;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    // No-load latency in nanoseconds; 0 until the first window
+    private double longRtt;
+
+    // Current sample window
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit,
+                           double rttTolerance, double smoothing, int longWindow,
+                           long windowNanos, int minWindowSamples) {
+        if (minLimit > maxLimit) {
+            throw new IllegalArgumentException("Min limit must not exceed max limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longWindow = longWindow;
+        this.windowNanos = windowNanos;
+        this.minWindowSamples = minWindowSamples;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    // Take a slot if the request fits under the current limit
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Give the slot back and record the request's latency
+    public void release(long rttNanos, long nowNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion, nowNanos);
+        }
+    }
+
+    // Whether in-flight requests use at least this share of the limit
+    public boolean isSaturated(double share) {
+        return inFlight.get() >= limit * share;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion, long nowNanos) {
+        if (windowSamples == 0) {
+            windowStart = nowNanos;
+        }
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+
+        if (nowNanos - windowStart < windowNanos || windowSamples < minWindowSamples) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        update(shortRtt, maxInFlight);
+    }
+
+    private void update(double shortRtt, int maxInFlight) {
+        double current = limit;
+        boolean congested = maxInFlight >= current / 2;
+
+        // The baseline is learnt from uncongested windows only; under load it can fall but never
+        // rise, otherwise a long slowdown would become the new normal
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else if (!congested) {
+            longRtt += (shortRtt - longRtt) / longWindow;
+        } else if (shortRtt < longRtt) {
+            longRtt = shortRtt;
+        }
+
+        // An underused limit says nothing about capacity, so leave it alone
+        if (!congested) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
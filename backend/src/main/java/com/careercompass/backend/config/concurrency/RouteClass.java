@@ -0,0 +1,31 @@
+package com.careercompass.backend.config.concurrency;
+
+/**
+ * Groups of routes that share a concurrency limit.
+ *
+ * A class is shed while any class in a higher-priority tier (lower number)
+ * is saturated. Logins and detail reads share the top tier, so a burst of
+ * slow logins cannot shed detail reads and neither can starve the other;
+ * only uploads and listings give way.
+ */
+public enum RouteClass {
+    AUTH(0),
+    DETAIL(0),
+    UPLOAD(1),
+    SEARCH(2);
+
+    private final int tier;
+
+    RouteClass(int tier) {
+        this.tier = tier;
+    }
+
+    public int getTier() {
+        return tier;
+    }
+
+    // Whether this class gives way while the other one is saturated
+    public boolean yieldsTo(RouteClass other) {
+        return other.tier < tier;
+    }
+}
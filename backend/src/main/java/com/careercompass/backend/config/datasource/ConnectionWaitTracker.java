@@ -0,0 +1,42 @@
+package com.careercompass.backend.config.datasource;
+
+/**
+ * Per-thread accumulator of time spent waiting for connections (pool
+ * checkouts and connection-limit permits), so callers such as the request
+ * and repository metrics can attribute waits to the operation that
+ * triggered them. Scopes nest: an inner scope's wait also counts toward the
+ * enclosing one.
+ */
+public final class ConnectionWaitTracker {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private ConnectionWaitTracker() {
+    }
+
+    // Start a scope; pass the returned value to end()
+    public static long[] begin() {
+        long[] previous = CURRENT.get();
+        CURRENT.set(new long[1]);
+        return previous;
+    }
+
+    // Close the scope and return the nanoseconds waited inside it
+    public static long end(long[] previous) {
+        long waited = CURRENT.get()[0];
+        if (previous != null) {
+            previous[0] += waited;
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+        return waited;
+    }
+
+    static void record(long nanos) {
+        long[] current = CURRENT.get();
+        if (current != null) {
+            current[0] += nanos;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.careercompass.backend.config.datasource;
+
+import com.careercompass.backend.config.properties.ConnectionLimitProperties;
+import com.careercompass.backend.config.properties.ReplicaProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Decorates the auto-configured DataSource: checkout timing on the physical
+ * pools first, then replica routing, then the connection limit around the
+ * result, sized to the pools it covers. Post-processor beans are static so they are registered before the
+ * DataSource they wrap is created.
+ */
+@Configuration
+@Slf4j
+public class DataSourceConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.repository-metrics", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public static BeanPostProcessor connectionTimingPostProcessor() {
+        return new ConnectionTimingPostProcessor();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor replicaRoutingPostProcessor(ObjectProvider<ReplicaProperties> properties,
+                                                                ObjectProvider<ReplicaRoutingPolicy> policy) {
+        return new ReplicaRoutingPostProcessor(properties, policy);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.connection-limit", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor connectionLimitingPostProcessor(ObjectProvider<ConnectionLimitProperties> properties,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConnectionLimitingPostProcessor(properties, meterRegistry);
+    }
+
+    private static class ConnectionTimingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionTimingDataSource
+                    || bean instanceof ReplicaRoutingDataSource || bean instanceof ConnectionLimitingDataSource) {
+                return bean;
+            }
+            return new ConnectionTimingDataSource(dataSource);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    private record ReplicaRoutingPostProcessor(ObjectProvider<ReplicaProperties> properties,
+                                              ObjectProvider<ReplicaRoutingPolicy> policy)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReplicaRoutingDataSource
+                    || bean instanceof ConnectionLimitingDataSource) {
+                return bean;
+            }
+            ReplicaProperties replica = properties.getObject();
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("CareerCompassReplicaPool");
+            config.setJdbcUrl(replica.getUrl());
+            config.setUsername(replica.getUsername());
+            config.setPassword(replica.getPassword());
+            config.setMaximumPoolSize(replica.getPoolSize());
+            config.setReadOnly(true);
+            // Start even if the replica is down; the lag monitor keeps reads on the primary meanwhile
+            config.setInitializationFailTimeout(-1);
+
+            log.info("Routing read-only transactions on '{}' to replica {}", beanName, replica.getUrl());
+            return new ReplicaRoutingDataSource(primary, new ConnectionTimingDataSource(new HikariDataSource(config)),
+                    policy.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 10;
+        }
+    }
+
+    record ConnectionLimitingPostProcessor(ObjectProvider<ConnectionLimitProperties> properties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                return bean;
+            }
+            ConnectionLimitProperties limit = properties.getObject();
+            int maxConcurrent = permitsFor(dataSource, limit.getMaxConcurrent());
+            log.info("Limiting '{}' to {} concurrent connections", beanName, maxConcurrent);
+            return new ConnectionLimitingDataSource(dataSource, maxConcurrent,
+                    limit.getAcquireTimeoutMs(), meterRegistry.getObject());
+        }
+
+        // The pools' combined size unless configured lower; more permits than connections would
+        // just move the queue back into Hikari
+        static int permitsFor(DataSource dataSource, int configured) {
+            int capacity = poolCapacity(dataSource);
+            if (capacity <= 0) {
+                if (configured <= 0) {
+                    throw new IllegalStateException("Cannot determine the connection pool size; "
+                            + "set app.connection-limit.max-concurrent");
+                }
+                return configured;
+            }
+            if (configured > capacity) {
+                throw new IllegalStateException("app.connection-limit.max-concurrent (" + configured
+                        + ") exceeds the " + capacity + " pooled connections available");
+            }
+            return configured > 0 ? configured : capacity;
+        }
+
+        // Maximum size of the Hikari pools behind the wrappers, or 0 if there is no Hikari pool
+        static int poolCapacity(DataSource dataSource) {
+            if (dataSource instanceof HikariDataSource hikari) {
+                return hikari.getMaximumPoolSize();
+            }
+            if (dataSource instanceof ReplicaRoutingDataSource routing) {
+                return poolCapacity(routing.getPrimaryDataSource()) + poolCapacity(routing.getReplicaDataSource());
+            }
+            if (dataSource instanceof DelegatingDataSource delegating && delegating.getTargetDataSource() != null) {
+                return poolCapacity(delegating.getTargetDataSource());
+            }
+            return 0;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.careercompass.backend.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+// Marks clients that completed a write so their next reads stay on the primary
+@Component
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaRoutingPolicy policy;
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (!SAFE_METHODS.contains(request.getMethod()) && ex == null && response.getStatus() < 400) {
+            policy.recordWrite(request);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.careercompass.backend.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Measures replica replay lag so the routing policy can fall back to the
+ * primary while the replica is behind or down.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Zero when everything received has been replayed; otherwise time since the last replayed commit
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    private final ReplicaRoutingPolicy policy;
+    private final JdbcTemplate replica;
+
+    public ReplicaLagMonitor(ReplicaRoutingPolicy policy, DataSource dataSource) throws SQLException {
+        this.policy = policy;
+        this.replica = new JdbcTemplate(dataSource.unwrap(ReplicaRoutingDataSource.class).getReplicaDataSource());
+        this.replica.setQueryTimeout(1);
+    }
+
+    @Scheduled(fixedDelayString = "${app.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean wasUsable = policy.isReplicaUsable();
+        try {
+            Double lag = replica.queryForObject(LAG_QUERY, Double.class);
+            // NULL when the server is not replaying at all, e.g. a standalone instance in local testing
+            policy.updateLag(lag == null ? 0 : Math.round(lag));
+        } catch (RuntimeException e) {
+            policy.updateLag(ReplicaRoutingPolicy.UNREACHABLE);
+            if (wasUsable) {
+                log.warn("Replica unreachable, routing reads to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != policy.isReplicaUsable()) {
+            log.info("Replica {} for reads", policy.isReplicaUsable() ? "back in use" : "lagging, bypassed");
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.careercompass.backend.config.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the
+ * primary.
+ *
+ * The routing target sits behind a lazy connection proxy because the
+ * transaction manager asks for a connection before it marks the transaction
+ * read-only; the physical connection is only fetched, and the route only
+ * decided, at the first statement.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final DataSource replica;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaRoutingPolicy policy) {
+        this.primary = primary;
+        this.replica = replica;
+
+        Router router = new Router(policy);
+        router.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    public DataSource getPrimaryDataSource() {
+        return primary;
+    }
+
+    public DataSource getReplicaDataSource() {
+        return replica;
+    }
+
+    // Both pools belong to this bean once it has replaced the auto-configured DataSource
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static class Router extends AbstractRoutingDataSource {
+
+        private final ReplicaRoutingPolicy policy;
+
+        Router(ReplicaRoutingPolicy policy) {
+            this.policy = policy;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return policy.useReplica() ? REPLICA : PRIMARY;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.careercompass.backend.config.datasource;
+
+import com.careercompass.backend.config.properties.ReplicaProperties;
+import com.careercompass.backend.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Decides whether a new physical connection may come from the replica.
+ *
+ * Only read-only transactions are eligible, and only while the replica is
+ * reachable and within the allowed replay lag. A client that has just
+ * written (keyed by user id, else address) reads from
+ * the primary for a short window so it sees its own changes.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingPolicy {
+
+    // Lag value recorded when the replica cannot be reached at all
+    public static final long UNREACHABLE = -1;
+
+    private final ReplicaProperties properties;
+    private final Cache<String, Boolean> recentWriters;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter laggingReads;
+
+    private volatile long lagMillis = UNREACHABLE;
+
+    public ReplicaRoutingPolicy(ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(properties.getStickyWindowMs()))
+                .build();
+        this.replicaReads = routed(meterRegistry, "replica", "read-only");
+        this.stickyReads = routed(meterRegistry, "primary", "sticky");
+        this.laggingReads = routed(meterRegistry, "primary", "replica-lag");
+        Gauge.builder("db.replica.lag", this, policy -> policy.lagMillis)
+                .description("Last measured replica replay lag in ms, -1 when unreachable")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean useReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        if (!isReplicaUsable()) {
+            laggingReads.increment();
+            return false;
+        }
+        String client = currentClientKey();
+        if (client != null && recentWriters.getIfPresent(client) != null) {
+            stickyReads.increment();
+            return false;
+        }
+        replicaReads.increment();
+        return true;
+    }
+
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+        return lag != UNREACHABLE && lag <= properties.getMaxLagMs();
+    }
+
+    public void recordWrite(HttpServletRequest request) {
+        recentWriters.put(clientKey(request), Boolean.TRUE);
+    }
+
+    public void updateLag(long lagMillis) {
+        this.lagMillis = lagMillis;
+    }
+
+    private static String currentClientKey() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return clientKey(servletAttributes.getRequest());
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("db.routing.connections")
+                .description("Read-only connections by routing target")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.careercompass.backend.config.metrics;
+
+import com.careercompass.backend.config.datasource.ConnectionWaitTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.security.autoconfigure.web.servlet.SecurityFilterProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection wait per request, by route.
+ *
+ * Transactional services check their connection out when the transaction
+ * begins, before any repository call, so the repository meters rarely see
+ * that wait. This scope spans the whole request, JWT authentication
+ * included, and therefore counts every checkout: connection-limit permits
+ * and pool waits alike.
+ */
+@Component
+@Order(SecurityFilterProperties.DEFAULT_FILTER_ORDER - 2)
+@ConditionalOnProperty(prefix = "app.repository-metrics", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class ConnectionWaitFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionWaitFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long[] outerScope = ConnectionWaitTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long waited = ConnectionWaitTracker.end(outerScope);
+            // The matched pattern, never the raw path, so ids do not become tag values
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Timer.builder("http.server.requests.connection.wait")
+                    .description("Time a request spent waiting for database connections")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .register(meterRegistry)
+                    .record(waited, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.careercompass.backend.config.metrics;
+
+import com.careercompass.backend.config.properties.RepositoryMetricsProperties;
+import com.careercompass.backend.dto.response.RepositoryMethodStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Meters for every Spring Data repository method, created on first call.
+ *
+ * Latency percentiles are computed client side by Micrometer's
+ * HdrHistogram-backed recorders, so recording stays allocation free and the
+ * admin endpoint can read p50/p95/p99 without a metrics backend.
+ */
+@Component
+public class RepositoryMetrics {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetrics(MeterRegistry meterRegistry, RepositoryMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs());
+    }
+
+    public MethodMeters metersFor(Class<?> repositoryInterface, Method method) {
+        return meters.computeIfAbsent(method, m -> new MethodMeters(repositoryInterface.getSimpleName(), signature(m)));
+    }
+
+    public long getSlowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    // Busiest methods first
+    public List<RepositoryMethodStats> snapshot() {
+        return meters.values().stream()
+                .map(MethodMeters::snapshot)
+                .sorted(Comparator.comparingDouble(RepositoryMethodStats::getTotalMs).reversed())
+                .toList();
+    }
+
+    // Overloads such as findByRole(Role) and findByRole(Role, Pageable) get separate meters
+    private static String signature(Method method) {
+        return method.getName() + Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+
+    public final class MethodMeters {
+
+        private final String repository;
+        private final String method;
+        private final Timer success;
+        private final Timer error;
+        private final DistributionSummary rows;
+        private final Timer connectionWait;
+
+        private MethodMeters(String repository, String method) {
+            this.repository = repository;
+            this.method = method;
+            this.success = invocationTimer("success");
+            this.error = invocationTimer("error");
+            this.rows = DistributionSummary.builder("repository.rows")
+                    .description("Rows returned per repository call")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry);
+            // Only checkouts made inside the call: non-transactional calls, or the first statement behind
+            // the replica router's lazy proxy. Transactional services check out at transaction begin,
+            // which http.server.requests.connection.wait covers
+            this.connectionWait = Timer.builder("repository.connection.wait")
+                    .description("Time a repository call spent waiting for database connections it opened itself")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        public String getRepository() {
+            return repository;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        // rowCount is negative when the result has no meaningful row count
+        public void record(long elapsedNanos, long connectionWaitNanos, long rowCount, boolean failed) {
+            (failed ? error : success).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            connectionWait.record(connectionWaitNanos, TimeUnit.NANOSECONDS);
+            if (rowCount >= 0) {
+                rows.record(rowCount);
+            }
+        }
+
+        private Timer invocationTimer(String outcome) {
+            return Timer.builder("repository.invocations")
+                    .description("Spring Data repository call latency")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry);
+        }
+
+        private RepositoryMethodStats snapshot() {
+            HistogramSnapshot latency = success.takeSnapshot();
+            long calls = success.count() + error.count();
+            double totalMs = success.totalTime(TimeUnit.MILLISECONDS) + error.totalTime(TimeUnit.MILLISECONDS);
+            return RepositoryMethodStats.builder()
+                    .repository(repository)
+                    .method(method)
+                    .calls(calls)
+                    .errors(error.count())
+                    .totalMs(totalMs)
+                    .meanMs(calls == 0 ? 0 : totalMs / calls)
+                    .p50Ms(percentile(latency, 0.5))
+                    .p95Ms(percentile(latency, 0.95))
+                    .p99Ms(percentile(latency, 0.99))
+                    .maxMs(Math.max(success.max(TimeUnit.MILLISECONDS), error.max(TimeUnit.MILLISECONDS)))
+                    .meanRows(rows.mean())
+                    .maxRows(rows.max())
+                    .meanConnectionWaitMs(connectionWait.mean(TimeUnit.MILLISECONDS))
+                    .maxConnectionWaitMs(connectionWait.max(TimeUnit.MILLISECONDS))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.careercompass.backend.config.metrics;
+
+import com.careercompass.backend.config.datasource.ConnectionWaitTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Times one repository proxy's invocations and records rows returned and
+ * connection wait. Calls over the slow threshold are logged with the shape
+ * of their arguments (types, lengths, sizes, paging) but never the values,
+ * so the log stays free of emails, tokens and other user data.
+ */
+@Slf4j
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final RepositoryMetrics metrics;
+    private final Class<?> repositoryInterface;
+
+    public RepositoryMetricsInterceptor(RepositoryMetrics metrics, Class<?> repositoryInterface) {
+        this.metrics = metrics;
+        this.repositoryInterface = repositoryInterface;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        RepositoryMetrics.MethodMeters meters = metrics.metersFor(repositoryInterface, method);
+        long[] outerScope = ConnectionWaitTracker.begin();
+        long start = System.nanoTime();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long connectionWait = ConnectionWaitTracker.end(outerScope);
+            meters.record(elapsed, connectionWait, failed ? -1 : rowCount(result), failed);
+            if (elapsed >= metrics.getSlowThresholdNanos()) {
+                log.warn("Slow repository call {}.{} took {} ms (connection wait {} ms, failed={}) args={}",
+                        meters.getRepository(), meters.getMethod(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), TimeUnit.NANOSECONDS.toMillis(connectionWait),
+                        failed, shapeOf(invocation.getArguments()));
+            }
+        }
+    }
+
+    // Rows materialized by the call, or -1 for scalars, streams and void methods
+    static long rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof CharSequence
+                || result instanceof Iterable<?> || result instanceof AutoCloseable) {
+            return -1;
+        }
+        return 1;
+    }
+
+    static String shapeOf(Object[] arguments) {
+        return Arrays.stream(arguments)
+                .map(RepositoryMetricsInterceptor::shapeOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String shapeOf(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        if (argument instanceof CharSequence text) {
+            return "String(length=" + text.length() + ")";
+        }
+        if (argument instanceof Collection<?> collection) {
+            return argument.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (argument instanceof Pageable pageable) {
+            return pageable.isUnpaged() ? "Pageable(unpaged)"
+                    : "Pageable(page=" + pageable.getPageNumber() + ", size=" + pageable.getPageSize()
+                    + ", sort=" + pageable.getSort() + ")";
+        }
+        if (argument.getClass().isArray()) {
+            return argument.getClass().getComponentType().getSimpleName()
+                    + "[" + Array.getLength(argument) + "]";
+        }
+        // Enum constants describe the query, not the user
+        if (argument instanceof Enum<?> constant) {
+            return constant.getDeclaringClass().getSimpleName() + "." + constant.name();
+        }
+        // Numbers, dates and entities: the type alone
+        return argument.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,36 @@
+package com.careercompass.backend.config.metrics;
+
+import com.careercompass.backend.config.properties.RepositoryMetricsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds RepositoryMetricsInterceptor to every Spring Data repository proxy.
+ * Runs before initialization because the factory bean builds the proxy in
+ * afterPropertiesSet. Dependencies are looked up lazily so registering this
+ * post-processor early does not drag the metrics beans in with it.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.repository-metrics", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<RepositoryMetrics> metrics;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<RepositoryMetrics> metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new RepositoryMetricsInterceptor(metrics.getObject(), information.getRepositoryInterface()))));
+        }
+        return bean;
+    }
+}
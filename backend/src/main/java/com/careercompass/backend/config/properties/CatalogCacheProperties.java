@@ -0,0 +1,24 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.catalog-cache")
+public class CatalogCacheProperties {
+
+    // Upper bound on companies held in memory
+    @Min(value = 1, message = "Max companies must be at least 1")
+    private Long maxCompanies = 10_000L;
+
+    // Safety net in case a version bump is ever missed
+    @Min(value = 1, message = "Expiry must be at least 1 minute")
+    private Long expireAfterWriteMinutes = 60L;
+
+    // How often other nodes' version stamps are checked
+    @Min(value = 100, message = "Version poll interval must be at least 100 ms")
+    private Long versionPollMs = 5000L;
+}
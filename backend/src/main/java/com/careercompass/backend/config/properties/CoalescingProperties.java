@@ -0,0 +1,19 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.coalescing")
+public class CoalescingProperties {
+
+    // How long a request waits on another request's in-flight load before giving up with 503
+    @Min(value = 1, message = "Wait timeout must be at least 1 ms")
+    private Long waitTimeoutMs = 2000L;
+
+    @Min(value = 1, message = "Retry-After must be at least 1 second")
+    private Long retryAfterSeconds = 1L;
+}
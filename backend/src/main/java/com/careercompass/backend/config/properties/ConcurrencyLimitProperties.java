@@ -0,0 +1,90 @@
+package com.careercompass.backend.config.properties;
+
+import com.careercompass.backend.config.concurrency.RouteClass;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private Boolean enabled = true;
+
+    // Bounds for each route class's limit, which adapts between them
+    @Min(value = 1, message = "Initial limit must be at least 1")
+    private Integer initialLimit = 20;
+
+    @Min(value = 1, message = "Min limit must be at least 1")
+    private Integer minLimit = 2;
+
+    @Min(value = 1, message = "Max limit must be at least 1")
+    private Integer maxLimit = 200;
+
+    // Latency may reach this multiple of the long-term baseline before the limit shrinks
+    @DecimalMin(value = "1.0", message = "RTT tolerance must be at least 1.0")
+    private Double rttTolerance = 1.5;
+
+    // Weight of each new limit estimate; lower is steadier but slower to react
+    @DecimalMin(value = "0.01", message = "Smoothing is too small")
+    @DecimalMax(value = "1.0", message = "Smoothing must be at most 1.0")
+    private Double smoothing = 0.2;
+
+    // Completed requests are averaged per sample window before the limit is updated
+    @Min(value = 1, message = "Sample window must be at least 1 ms")
+    private Integer sampleWindowMs = 100;
+
+    @Min(value = 1, message = "Min window samples must be at least 1")
+    private Integer minWindowSamples = 10;
+
+    // Uncongested windows averaged into the latency baseline
+    @Min(value = 10, message = "Long window must be at least 10 windows")
+    private Integer longWindow = 600;
+
+    // Lower-tier classes are shed while a higher-tier one uses this share of its limit
+    @DecimalMin(value = "0.1", message = "Saturation share is too small")
+    @DecimalMax(value = "1.0", message = "Saturation share must be at most 1.0")
+    private Double saturation = 0.9;
+
+    @Min(value = 1, message = "Retry-After must be at least 1 second")
+    private Integer retryAfterSeconds = 1;
+
+    // Route class per "METHOD /pattern" key; the most specific pattern wins and unlisted routes
+    // (writes included) are not limited
+    private Map<String, RouteClass> routeClasses = new LinkedHashMap<>(Map.ofEntries(
+            Map.entry("POST /api/auth/login", RouteClass.AUTH),
+            Map.entry("POST /api/auth/register", RouteClass.AUTH),
+            Map.entry("POST /api/auth/refresh", RouteClass.AUTH),
+            Map.entry("GET /api/auth/me", RouteClass.AUTH),
+            Map.entry("GET /api/jobs/{id}", RouteClass.DETAIL),
+            Map.entry("GET /api/companies/{id}", RouteClass.DETAIL),
+            Map.entry("GET /api/skills/{id}", RouteClass.DETAIL),
+            Map.entry("GET /api/benefits/{id}", RouteClass.DETAIL),
+            Map.entry("GET /api/users/{id}", RouteClass.DETAIL),
+            Map.entry("GET /api/resumes/{id}", RouteClass.DETAIL),
+            Map.entry("POST /api/resumes", RouteClass.UPLOAD),
+            Map.entry("GET /api/jobs", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/active", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/featured", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/remote", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/salary", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/search", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/location/{location}", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/company/{companyId}", RouteClass.SEARCH),
+            Map.entry("GET /api/jobs/count/company/{companyId}", RouteClass.SEARCH),
+            Map.entry("GET /api/companies", RouteClass.SEARCH),
+            Map.entry("GET /api/skills", RouteClass.SEARCH),
+            Map.entry("GET /api/skills/all", RouteClass.SEARCH),
+            Map.entry("GET /api/benefits", RouteClass.SEARCH),
+            Map.entry("GET /api/benefits/all", RouteClass.SEARCH),
+            Map.entry("GET /api/users", RouteClass.SEARCH),
+            Map.entry("GET /api/resumes", RouteClass.SEARCH)
+    ));
+}
@@ -0,0 +1,22 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.connection-limit")
+public class ConnectionLimitProperties {
+
+    // On by default whenever requests run on virtual threads
+    private Boolean enabled = false;
+
+    // 0 uses the Hikari maximum pool size (primary plus replica); a larger value fails startup
+    @Min(value = 0, message = "Max concurrent connections must not be negative")
+    private Integer maxConcurrent = 0;
+
+    @Min(value = 1, message = "Acquire timeout must be at least 1 ms")
+    private Long acquireTimeoutMs = 30000L;
+}
@@ -0,0 +1,22 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    // Cache-Control max-age per route family; clients revalidate with the ETag afterwards
+    @Min(value = 0, message = "Max age cannot be negative")
+    private Long catalogMaxAgeSeconds = 300L;
+
+    @Min(value = 0, message = "Max age cannot be negative")
+    private Long companyMaxAgeSeconds = 300L;
+
+    @Min(value = 0, message = "Max age cannot be negative")
+    private Long jobMaxAgeSeconds = 60L;
+}
@@ -0,0 +1,19 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.job-cache")
+public class JobCacheProperties {
+
+    @Min(value = 1, message = "Max entries must be at least 1")
+    private Long maxEntries = 10_000L;
+
+    // Bounds staleness from writes made on other nodes; local writes invalidate immediately
+    @Min(value = 1, message = "TTL must be at least 1 second")
+    private Long ttlSeconds = 30L;
+}
@@ -0,0 +1,34 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.job-listing-cache")
+public class JobListingCacheProperties {
+
+    private Boolean enabled = true;
+
+    @Min(value = 1, message = "Max entries must be at least 1")
+    private Long maxEntries = 1000L;
+
+    // Safety net; job write events normally invalidate much sooner
+    @Min(value = 1, message = "TTL must be at least 1 second")
+    private Long ttlSeconds = 60L;
+
+    // Only the first pages are hot; deeper pages bypass the cache
+    @Min(value = 1, message = "Max cached pages must be at least 1")
+    private Integer maxCachedPages = 20;
+
+    @Min(value = 1, message = "Max cached page size must be at least 1")
+    private Integer maxCachedPageSize = 100;
+
+    private Boolean gzip = true;
+
+    // Bodies smaller than this are not worth compressing
+    @Min(value = 0, message = "Gzip threshold cannot be negative")
+    private Integer gzipMinBytes = 1024;
+}
@@ -0,0 +1,29 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.job-search-cache")
+public class JobSearchCacheProperties {
+
+    private Boolean enabled = true;
+
+    @Min(value = 1, message = "Max entries must be at least 1")
+    private Long maxEntries = 10_000L;
+
+    // Company/location tags with a tracked version; an evicted tag reads as unknown, so its entries miss
+    @Min(value = 1, message = "Max tags must be at least 1")
+    private Long maxTags = 10_000L;
+
+    // Safety net for writes on other nodes; local job writes invalidate through versions
+    @Min(value = 1, message = "TTL must be at least 1 second")
+    private Long ttlSeconds = 300L;
+
+    // Ids cached per entry; any page that fits inside one window is served from it
+    @Min(value = 10, message = "Window size must be at least 10")
+    private Integer windowSize = 100;
+}
@@ -0,0 +1,23 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.login-audit")
+public class LoginAuditProperties {
+
+    // How often buffered successful logins are written to the users table
+    @Min(value = 100, message = "Flush interval must be at least 100 ms")
+    private Long flushIntervalMs = 5000L;
+
+    // Repeat logins from the same IP within this window are not recorded again
+    @Min(value = 0, message = "Minimum interval cannot be negative")
+    private Long minIntervalSeconds = 60L;
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    private Integer batchSize = 100;
+}
@@ -0,0 +1,22 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.negative-cache")
+public class NegativeCacheProperties {
+
+    private Boolean enabled = true;
+
+    // Per cache: missing job ids, missing company ids, empty searches
+    @Min(value = 1, message = "Max entries must be at least 1")
+    private Long maxEntries = 100_000L;
+
+    // Kept short: inserts on other nodes only become visible once an entry expires
+    @Min(value = 1, message = "TTL must be at least 1 second")
+    private Long ttlSeconds = 10L;
+}
@@ -0,0 +1,22 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    // Worker threads for BCrypt; 0 means one per available core
+    @Min(value = 0, message = "Thread count cannot be negative")
+    private Integer threads = 0;
+
+    @Min(value = 1, message = "Queue capacity must be at least 1")
+    private Integer queueCapacity = 64;
+
+    @Min(value = 1, message = "Retry-After must be at least 1 second")
+    private Long retryAfterSeconds = 2L;
+}
@@ -0,0 +1,40 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private Boolean enabled = true;
+
+    // Burst size: tokens available to an idle client
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity = 60;
+
+    // Sustained rate: tokens restored per second
+    @Min(value = 1, message = "Refill rate must be at least 1 token per second")
+    private Integer refillPerSecond = 10;
+
+    // Upper bound on tracked clients; idle buckets are evicted first
+    @Min(value = 1, message = "Max buckets must be at least 1")
+    private Integer maxBuckets = 100_000;
+
+    @Min(value = 1, message = "Default cost must be at least 1")
+    private Integer defaultCost = 1;
+
+    // Token cost per path prefix; the longest matching prefix wins
+    private Map<String, Integer> routeCosts = new LinkedHashMap<>(Map.of(
+            "/api/jobs/search", 5,
+            "/api/auth/login", 5,
+            "/api/auth/register", 5,
+            "/api/resumes", 3
+    ));
+}
@@ -0,0 +1,24 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.registration-index")
+public class RegistrationIndexProperties {
+
+    private Boolean enabled = true;
+
+    // Sizing for the email and username filters
+    @Min(value = 1000, message = "Expected users must be at least 1000")
+    private Long expectedUsers = 1_000_000L;
+
+    @DecimalMin(value = "0.0001", message = "False positive rate is too small")
+    @DecimalMax(value = "0.5", message = "False positive rate is too large")
+    private Double falsePositiveRate = 0.01;
+}
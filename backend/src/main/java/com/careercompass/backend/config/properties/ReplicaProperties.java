@@ -0,0 +1,33 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.replica")
+public class ReplicaProperties {
+
+    // When off, every transaction uses the primary datasource
+    private Boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    @Min(value = 1, message = "Pool size must be at least 1")
+    private Integer poolSize = 10;
+
+    // Replica is bypassed while its replay lag exceeds this
+    @Min(value = 0, message = "Max lag cannot be negative")
+    private Long maxLagMs = 1000L;
+
+    @Min(value = 100, message = "Lag check interval must be at least 100 ms")
+    private Long lagCheckIntervalMs = 1000L;
+
+    // Reads stay on the primary this long after a client's own write
+    @Min(value = 0, message = "Sticky window cannot be negative")
+    private Long stickyWindowMs = 5000L;
+}
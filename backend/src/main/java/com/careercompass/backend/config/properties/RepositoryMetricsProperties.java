@@ -0,0 +1,18 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.repository-metrics")
+public class RepositoryMetricsProperties {
+
+    private Boolean enabled = true;
+
+    // Repository calls at or above this are logged with their parameter shapes
+    @Min(value = 1, message = "Slow threshold must be at least 1 ms")
+    private Long slowThresholdMs = 200L;
+}
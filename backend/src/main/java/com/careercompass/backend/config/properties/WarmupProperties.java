@@ -0,0 +1,26 @@
+package com.careercompass.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    private Boolean enabled = true;
+
+    // Readiness waits until a round's p99 across all warm-up calls is at or below this
+    @Min(value = 1, message = "Latency target must be at least 1 ms")
+    private Long latencyTargetMs = 50L;
+
+    // Synthetic calls of each kind per round
+    @Min(value = 1, message = "Iterations per round must be at least 1")
+    private Integer iterationsPerRound = 50;
+
+    // Stop waiting for the target and report ready anyway after this long
+    @Min(value = 1, message = "Max duration must be at least 1 second")
+    private Integer maxDurationSeconds = 60;
+}
@@ -0,0 +1,13 @@
+package com.careercompass.backend.config.security;
+
+import com.careercompass.backend.entity.User;
+
+/**
+ * Lightweight view of the authenticated principal for controllers.
+ */
+public record AuthenticatedUser(Long id, String email, User.Role role) {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole());
+    }
+}
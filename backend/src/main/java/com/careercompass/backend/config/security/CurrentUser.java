@@ -0,0 +1,20 @@
+package com.careercompass.backend.config.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated user into a controller method parameter.
+ * Supported parameter types are {@link AuthenticatedUser} and the User entity.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    // When false, anonymous requests resolve to null instead of failing
+    boolean required() default true;
+}
@@ -0,0 +1,70 @@
+package com.careercompass.backend.config.security;
+
+import com.careercompass.backend.entity.User;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the security context.
+ *
+ * JwtAuthenticationFilter has already loaded the User for this request, so
+ * resolution never touches the token or the database again. The principal
+ * view is cached as a request attribute and shared by every resolution
+ * within the request.
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".principal";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == AuthenticatedUser.class || type == User.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+
+        User user = currentUser();
+        if (user == null) {
+            CurrentUser annotation = parameter.getParameterAnnotation(CurrentUser.class);
+            if (annotation != null && !annotation.required()) {
+                return null;
+            }
+            throw new BadCredentialsException("Authentication is required");
+        }
+
+        if (parameter.getParameterType() == User.class) {
+            return user;
+        }
+
+        Object cached = webRequest.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        AuthenticatedUser principal = AuthenticatedUser.from(user);
+        webRequest.setAttribute(ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        return principal;
+    }
+
+    private User currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.careercompass.backend.config.security;
+
+import com.careercompass.backend.config.properties.RateLimitProperties;
+import com.careercompass.backend.service.auth.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-client API quota. Runs ahead of JwtAuthenticationFilter, so a client
+ * over its quota is rejected before its user is loaded. Bearer traffic is
+ * keyed by the token subject and anonymous traffic by IP.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRegistry tokenBucketRegistry;
+    private final JwtService jwtService;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.getEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getServletPath();
+        String clientKey = clientKey(request);
+        TokenBucketRegistry.Decision decision = tokenBucketRegistry.tryConsume(
+                clientKey, tokenBucketRegistry.costOf(path), System.nanoTime());
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            log.debug("Rate limit exceeded for {} on {}", clientKey, path);
+            writeTooManyRequests(request, response, decision.retryAfterSeconds());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Signed tokens get their own bucket by subject; the signature is checked but the user is not loaded
+    private String clientKey(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                String subject = jwtService.extractUsername(authHeader.substring(7));
+                if (subject != null) {
+                    return "user:" + subject;
+                }
+            } catch (RuntimeException e) {
+                // Invalid or expired token: counted as anonymous, and rejected later by authentication
+            }
+        }
+        // Behind a proxy or load balancer this is the proxy's address, so all anonymous clients
+        // share one bucket unless forwarded headers are trusted (server.forward-headers-strategy)
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      long retryAfterSeconds) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("message", "Rate limit exceeded. Please retry later.");
+        body.put("timestamp", LocalDateTime.now().toString());
+        body.put("path", request.getServletPath());
+
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
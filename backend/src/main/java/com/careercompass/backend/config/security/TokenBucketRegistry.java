@@ -0,0 +1,120 @@
+package com.careercompass.backend.config.security;
+
+import com.careercompass.backend.config.properties.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token buckets keyed by client.
+ *
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time"
+ * (GCRA), so a take is one CAS with no allocation. A bucket whose arrival
+ * time has passed is full again and indistinguishable from a new one, which
+ * makes eviction of idle buckets lossless and keeps the map bounded.
+ */
+@Component
+@Slf4j
+public class TokenBucketRegistry {
+
+    private static final String OVERFLOW_KEY = "overflow";
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final int maxBuckets;
+    private final int defaultCost;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final List<Map.Entry<String, Integer>> routeCosts;
+
+    public TokenBucketRegistry(RateLimitProperties properties) {
+        this.capacity = properties.getCapacity();
+        this.maxBuckets = properties.getMaxBuckets();
+        this.defaultCost = properties.getDefaultCost();
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / properties.getRefillPerSecond();
+        this.burstNanos = nanosPerToken * capacity;
+        // Longest prefix first so "/api/jobs/search" wins over "/api/jobs"
+        this.routeCosts = properties.getRouteCosts().entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<String, Integer> e) -> e.getKey().length()).reversed())
+                .map(e -> Map.entry(e.getKey(), e.getValue()))
+                .toList();
+    }
+
+    // Token cost of a request path
+    public int costOf(String path) {
+        for (Map.Entry<String, Integer> route : routeCosts) {
+            if (path.startsWith(route.getKey())) {
+                return route.getValue();
+            }
+        }
+        return defaultCost;
+    }
+
+    // Try to take tokens from the client's bucket
+    public Decision tryConsume(String key, int cost, long nowNanos) {
+        AtomicLong bucket = bucketFor(key, nowNanos);
+        long increment = nanosPerToken * cost;
+
+        while (true) {
+            long tat = bucket.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long newTat = base + increment;
+            long allowAt = newTat - burstNanos;
+
+            if (allowAt - nowNanos > 0) {
+                int remaining = (int) ((nowNanos + burstNanos - base) / nanosPerToken);
+                return new Decision(false, capacity, Math.max(remaining, 0),
+                        toSeconds(base - nowNanos), toSeconds(allowAt - nowNanos));
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                int remaining = (int) ((nowNanos + burstNanos - newTat) / nanosPerToken);
+                return new Decision(true, capacity, Math.max(remaining, 0), toSeconds(newTat - nowNanos), 0);
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    // Drop buckets that have refilled completely; they carry no state
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    void evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - nowNanos <= 0);
+        log.debug("Evicted {} idle rate-limit buckets", before - buckets.size());
+    }
+
+    private AtomicLong bucketFor(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            evictIdle(nowNanos);
+            if (buckets.size() >= maxBuckets) {
+                // Still full of active clients: new keys share one bucket rather than grow the map
+                return buckets.computeIfAbsent(OVERFLOW_KEY, k -> new AtomicLong(nowNanos));
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+    }
+
+    private static long toSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    // Outcome of a take, with values for the RateLimit-* headers
+    public record Decision(boolean allowed, int limit, int remaining, long resetSeconds, long retryAfterSeconds) {}
+}
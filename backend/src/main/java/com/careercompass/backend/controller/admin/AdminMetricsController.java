@@ -0,0 +1,28 @@
+package com.careercompass.backend.controller.admin;
+
+import com.careercompass.backend.config.metrics.RepositoryMetrics;
+import com.careercompass.backend.dto.response.RepositoryMethodStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+// Admin-only; created on first use to keep it off the startup path
+@RestController
+@Lazy
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class AdminMetricsController {
+
+    private final RepositoryMetrics repositoryMetrics;
+
+    // Per repository method latency, rows and connection wait, busiest first
+    @GetMapping("/repositories")
+    public ResponseEntity<List<RepositoryMethodStats>> getRepositoryMetrics() {
+        return ResponseEntity.ok(repositoryMetrics.snapshot());
+    }
+}
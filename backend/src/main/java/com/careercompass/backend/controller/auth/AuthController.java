@@ -1,9 +1,11 @@
 package com.careercompass.backend.controller.auth;
 
+import com.careercompass.backend.config.security.CurrentUser;
 import com.careercompass.backend.dto.request.LoginRequest;
 import com.careercompass.backend.dto.request.UserCreateRequest;
 import com.careercompass.backend.dto.response.AuthResponse;
 import com.careercompass.backend.dto.response.UserResponse;
+import com.careercompass.backend.entity.User;
 import com.careercompass.backend.service.auth.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -38,9 +40,8 @@ public class AuthController {
     
     // Get current user profile
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        UserResponse response = authService.getCurrentUser(token);
+    public ResponseEntity<UserResponse> getCurrentUser(@CurrentUser User currentUser) {
+        UserResponse response = authService.getCurrentUser(currentUser);
         return ResponseEntity.ok(response);
     }
     
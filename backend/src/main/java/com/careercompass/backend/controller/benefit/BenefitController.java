@@ -1,13 +1,18 @@
 package com.careercompass.backend.controller.benefit;
 
+import com.careercompass.backend.config.properties.HttpCacheProperties;
 import com.careercompass.backend.entity.Benefit;
 import com.careercompass.backend.repository.BenefitRepository;
+import com.careercompass.backend.service.catalog.CatalogCache;
+import com.careercompass.backend.util.HttpCachingUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +25,12 @@ public class BenefitController {
     @Autowired
     private BenefitRepository benefitRepository;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
     @GetMapping
     public ResponseEntity<Page<Benefit>> getAllBenefits(
             @RequestParam(defaultValue = "0") int page,
@@ -30,14 +41,19 @@ public class BenefitController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<Benefit>> getAllBenefitsList() {
-        List<Benefit> benefits = benefitRepository.findAll();
-        return ResponseEntity.ok(benefits);
+    public ResponseEntity<List<Benefit>> getAllBenefitsList(WebRequest request) {
+        String etag = HttpCachingUtil.weakETag("benefits", catalogCache.getBenefitsContentHash());
+        CacheControl cacheControl = HttpCachingUtil.publicCache(httpCacheProperties.getCatalogMaxAgeSeconds());
+        if (request.checkNotModified(etag)) {
+            return HttpCachingUtil.notModified(etag, null, cacheControl);
+        }
+        List<Benefit> benefits = catalogCache.getAllBenefits();
+        return HttpCachingUtil.ok(benefits, etag, null, cacheControl);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Benefit> getBenefitById(@PathVariable Long id) {
-        Optional<Benefit> benefit = benefitRepository.findById(id);
+        Optional<Benefit> benefit = catalogCache.getBenefit(id);
         return benefit.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
     }
@@ -45,6 +61,7 @@ public class BenefitController {
     @PostMapping
     public ResponseEntity<Benefit> createBenefit(@RequestBody Benefit benefit) {
         Benefit savedBenefit = benefitRepository.save(benefit);
+        catalogCache.benefitsChanged();
         return ResponseEntity.ok(savedBenefit);
     }
 
@@ -58,6 +75,7 @@ public class BenefitController {
             benefit.setDescription(benefitDetails.getDescription());
             
             Benefit savedBenefit = benefitRepository.save(benefit);
+            catalogCache.benefitsChanged();
             return ResponseEntity.ok(savedBenefit);
         }
         return ResponseEntity.notFound().build();
@@ -67,6 +85,7 @@ public class BenefitController {
     public ResponseEntity<Void> deleteBenefit(@PathVariable Long id) {
         if (benefitRepository.existsById(id)) {
             benefitRepository.deleteById(id);
+            catalogCache.benefitsChanged();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
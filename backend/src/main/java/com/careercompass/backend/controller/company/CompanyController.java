@@ -1,14 +1,27 @@
 package com.careercompass.backend.controller.company;
 
+import com.careercompass.backend.config.properties.HttpCacheProperties;
+import com.careercompass.backend.dto.response.BatchResponse;
 import com.careercompass.backend.entity.Company;
 import com.careercompass.backend.repository.CompanyRepository;
+import com.careercompass.backend.service.catalog.CatalogCache;
+import com.careercompass.backend.service.projection.FieldSet;
+import com.careercompass.backend.service.projection.SparseFieldsetService;
+import com.careercompass.backend.service.projection.SparseFieldsetService.Resource;
+import com.careercompass.backend.util.HttpCachingUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -19,25 +32,71 @@ public class CompanyController {
     @Autowired
     private CompanyRepository companyRepository;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
+    @Autowired
+    private SparseFieldsetService sparseFieldsetService;
+
     @GetMapping
-    public ResponseEntity<Page<Company>> getAllCompanies(
+    public ResponseEntity<Page<?>> getAllCompanies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.COMPANY, fields);
+        if (fieldSet != null) {
+            return ResponseEntity.ok(sparseFieldsetService.findPage(
+                    Resource.COMPANY, SparseFieldsetService.ALL_COMPANIES, fieldSet, pageable));
+        }
         Page<Company> companies = companyRepository.findAll(pageable);
         return ResponseEntity.ok(companies);
     }
 
+    // Several companies in one round trip, through the same cache as single reads
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<?>> getCompaniesByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+        List<Long> requestedIds = BatchResponse.distinctIds(ids);
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.COMPANY, fields);
+        Map<Long, Company> companies = catalogCache.getCompanies(requestedIds);
+        if (fieldSet == null) {
+            return ResponseEntity.ok(BatchResponse.of(requestedIds, companies));
+        }
+        Map<Long, Map<String, Object>> projected = new LinkedHashMap<>();
+        companies.forEach((id, company) -> projected.put(id, sparseFieldsetService.project(company, fieldSet)));
+        return ResponseEntity.ok(BatchResponse.of(requestedIds, projected));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Company> getCompanyById(@PathVariable Long id) {
-        Optional<Company> company = companyRepository.findById(id);
-        return company.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getCompanyById(@PathVariable Long id,
+                                            @RequestParam(required = false) String fields,
+                                            WebRequest request) {
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.COMPANY, fields);
+        Optional<Company> company = catalogCache.getCompany(id);
+        if (company.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        LocalDateTime updatedAt = company.get().getUpdatedAt();
+        String etag = HttpCachingUtil.weakETag(FieldSet.tag("company", fieldSet), id, updatedAt);
+        CacheControl cacheControl = HttpCachingUtil.publicCache(httpCacheProperties.getCompanyMaxAgeSeconds());
+        if (request.checkNotModified(etag, HttpCachingUtil.toEpochMillis(updatedAt))) {
+            return HttpCachingUtil.notModified(etag, updatedAt, cacheControl);
+        }
+        // Companies are served from the catalog cache, so the projection is applied in memory
+        Object body = fieldSet == null ? company.get() : sparseFieldsetService.project(company.get(), fieldSet);
+        return HttpCachingUtil.ok(body, etag, updatedAt, cacheControl);
     }
 
     @PostMapping
     public ResponseEntity<Company> createCompany(@RequestBody Company company) {
         Company savedCompany = companyRepository.save(company);
+        catalogCache.companyCreated(savedCompany.getId());
         return ResponseEntity.ok(savedCompany);
     }
 
@@ -54,6 +113,7 @@ public class CompanyController {
             company.setHeadquartersLocation(companyDetails.getHeadquartersLocation());
             
             Company savedCompany = companyRepository.save(company);
+            catalogCache.companiesChanged();
             return ResponseEntity.ok(savedCompany);
         }
         return ResponseEntity.notFound().build();
@@ -63,6 +123,7 @@ public class CompanyController {
     public ResponseEntity<Void> deleteCompany(@PathVariable Long id) {
         if (companyRepository.existsById(id)) {
             companyRepository.deleteById(id);
+            catalogCache.companiesChanged();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -1,16 +1,35 @@
 package com.careercompass.backend.controller.job;
 
+import com.careercompass.backend.config.properties.HttpCacheProperties;
+import com.careercompass.backend.dto.response.BatchResponse;
 import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.event.JobChangedEvent;
 import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.service.job.JobCache;
+import com.careercompass.backend.service.job.JobListingCache;
+import com.careercompass.backend.service.job.JobSearchService;
+import com.careercompass.backend.service.projection.FieldSet;
+import com.careercompass.backend.service.projection.SparseFieldsetService;
+import com.careercompass.backend.service.projection.SparseFieldsetService.Resource;
+import com.careercompass.backend.util.HttpCachingUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -20,31 +39,105 @@ public class JobController {
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
+    @Autowired
+    private JobListingCache jobListingCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SparseFieldsetService sparseFieldsetService;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private JobSearchService jobSearchService;
+
     // Get all jobs with pagination
     @GetMapping
-    public ResponseEntity<Page<Job>> getAllJobs(
+    public ResponseEntity<Page<?>> getAllJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields) {
         Pageable pageable = PageRequest.of(page, size);
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.JOB, fields);
+        if (fieldSet != null) {
+            return ResponseEntity.ok(sparseFieldsetService.findPage(
+                    Resource.JOB, SparseFieldsetService.ALL_JOBS, fieldSet, pageable));
+        }
         Page<Job> jobs = jobRepository.findAll(pageable);
         return ResponseEntity.ok(jobs);
     }
 
+    // Get several jobs by ID in one round trip
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResponse<?>> getJobsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam(required = false) String fields) {
+        List<Long> requestedIds = BatchResponse.distinctIds(ids);
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.JOB, fields);
+        Map<Long, Job> jobs = jobCache.getAll(requestedIds);
+        if (fieldSet == null) {
+            return ResponseEntity.ok(BatchResponse.of(requestedIds, jobs));
+        }
+        Map<Long, Map<String, Object>> projected = new LinkedHashMap<>();
+        jobs.forEach((id, job) -> projected.put(id, sparseFieldsetService.project(job, fieldSet)));
+        return ResponseEntity.ok(BatchResponse.of(requestedIds, projected));
+    }
+
     // Get active jobs
     @GetMapping("/active")
-    public ResponseEntity<Page<Job>> getActiveJobs(
+    public ResponseEntity<byte[]> getActiveJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findActiveJobs(pageable);
-        return ResponseEntity.ok(jobs);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedListing(JobListingCache.ACTIVE, SparseFieldsetService.ACTIVE_JOBS,
+                jobRepository::findActiveJobs, page, size, fields, accept, acceptEncoding);
     }
 
     // Get job by ID
     @GetMapping("/{id}")
-    public ResponseEntity<Job> getJobById(@PathVariable Long id) {
-        Optional<Job> job = jobRepository.findById(id);
-        return job.map(ResponseEntity::ok)
+    public ResponseEntity<?> getJobById(@PathVariable Long id,
+                                        @RequestParam(required = false) String fields,
+                                        WebRequest request) {
+        // Recently probed missing ids are answered without touching the database
+        if (jobCache.isKnownMissing(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        CacheControl cacheControl = HttpCachingUtil.publicCache(httpCacheProperties.getJobMaxAgeSeconds());
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.JOB, fields);
+        String resource = FieldSet.tag("job", fieldSet);
+
+        // Revalidation: answer from the cached job, or the updated_at probe, without loading the job
+        if (HttpCachingUtil.isConditional(request)) {
+            Optional<LocalDateTime> updatedAt = jobCache.getIfPresent(id)
+                    .map(Job::getUpdatedAt)
+                    .or(() -> jobRepository.findUpdatedAtById(id));
+            if (updatedAt.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String etag = HttpCachingUtil.weakETag(resource, id, updatedAt.get());
+            if (request.checkNotModified(etag, HttpCachingUtil.toEpochMillis(updatedAt.get()))) {
+                return HttpCachingUtil.notModified(etag, updatedAt.get(), cacheControl);
+            }
+        }
+
+        if (fieldSet != null) {
+            return sparseFieldsetService.findById(Resource.JOB, id, fieldSet)
+                    .map(row -> HttpCachingUtil.ok(row.values(), HttpCachingUtil.weakETag(resource, id, row.updatedAt()),
+                            row.updatedAt(), cacheControl))
+                    .orElse(ResponseEntity.notFound().build());
+        }
+
+        Optional<Job> job = jobCache.get(id);
+        return job.map(j -> HttpCachingUtil.ok(j, HttpCachingUtil.weakETag(resource, id, j.getUpdatedAt()),
+                        j.getUpdatedAt(), cacheControl))
                   .orElse(ResponseEntity.notFound().build());
     }
 
@@ -52,6 +145,7 @@ public class JobController {
     @PostMapping
     public ResponseEntity<Job> createJob(@RequestBody Job job) {
         Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(JobChangedEvent.of(savedJob.getId(), JobChangedEvent.Type.CREATED, savedJob));
         return ResponseEntity.ok(savedJob);
     }
 
@@ -61,6 +155,8 @@ public class JobController {
         Optional<Job> optionalJob = jobRepository.findById(id);
         if (optionalJob.isPresent()) {
             Job job = optionalJob.get();
+            // Tag the listings the job leaves as well as the ones it joins
+            Job before = Job.builder().companyId(job.getCompanyId()).location(job.getLocation()).build();
             job.setTitle(jobDetails.getTitle());
             job.setDescription(jobDetails.getDescription());
             job.setLocation(jobDetails.getLocation());
@@ -71,6 +167,7 @@ public class JobController {
             job.setStatus(jobDetails.getStatus());
             
             Job savedJob = jobRepository.save(job);
+            eventPublisher.publishEvent(JobChangedEvent.of(id, JobChangedEvent.Type.UPDATED, before, savedJob));
             return ResponseEntity.ok(savedJob);
         }
         return ResponseEntity.notFound().build();
@@ -79,8 +176,10 @@ public class JobController {
     // Delete job
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteJob(@PathVariable Long id) {
-        if (jobRepository.existsById(id)) {
-            jobRepository.deleteById(id);
+        Optional<Job> job = jobRepository.findById(id);
+        if (job.isPresent()) {
+            jobRepository.delete(job.get());
+            eventPublisher.publishEvent(JobChangedEvent.of(id, JobChangedEvent.Type.DELETED, job.get()));
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
@@ -93,7 +192,7 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findByLocation(location, pageable);
+        Page<Job> jobs = jobSearchService.findByLocation(location, pageable);
         return ResponseEntity.ok(jobs);
     }
 
@@ -111,22 +210,26 @@ public class JobController {
 
     // Get remote jobs
     @GetMapping("/remote")
-    public ResponseEntity<Page<Job>> getRemoteJobs(
+    public ResponseEntity<byte[]> getRemoteJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findRemoteJobs(pageable);
-        return ResponseEntity.ok(jobs);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedListing(JobListingCache.REMOTE, SparseFieldsetService.REMOTE_JOBS,
+                jobRepository::findRemoteJobs, page, size, fields, accept, acceptEncoding);
     }
 
     // Get featured jobs
     @GetMapping("/featured")
-    public ResponseEntity<Page<Job>> getFeaturedJobs(
+    public ResponseEntity<byte[]> getFeaturedJobs(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findFeaturedJobs(pageable);
-        return ResponseEntity.ok(jobs);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return cachedListing(JobListingCache.FEATURED, SparseFieldsetService.FEATURED_JOBS,
+                jobRepository::findFeaturedJobs, page, size, fields, accept, acceptEncoding);
     }
 
     // Get jobs by company
@@ -136,7 +239,7 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findByCompanyId(companyId, pageable);
+        Page<Job> jobs = jobSearchService.findByCompany(companyId, pageable);
         return ResponseEntity.ok(jobs);
     }
 
@@ -147,7 +250,7 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Job> jobs = jobRepository.findByTitleOrDescriptionContaining(query, pageable);
+        Page<Job> jobs = jobSearchService.search(query, pageable);
         return ResponseEntity.ok(jobs);
     }
 
@@ -158,6 +261,21 @@ public class JobController {
         return ResponseEntity.ok(count);
     }
 
+    // Listing page through the response cache; a sparse fieldset becomes part of the cache key
+    private ResponseEntity<byte[]> cachedListing(String listing, SparseFieldsetService.Filter filter,
+                                                 Function<Pageable, Page<Job>> query,
+                                                 int page, int size, String fields,
+                                                 String accept, String acceptEncoding) {
+        FieldSet fieldSet = sparseFieldsetService.parse(Resource.JOB, fields);
+        Pageable pageable = PageRequest.of(page, size);
+        if (fieldSet == null) {
+            return jobListingCache.get(listing, page, size, null, accept, acceptEncoding,
+                    () -> query.apply(pageable));
+        }
+        return jobListingCache.get(listing, page, size, fieldSet.key(), accept, acceptEncoding,
+                () -> sparseFieldsetService.findPage(Resource.JOB, filter, fieldSet, pageable));
+    }
+
     // Health check endpoint
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
@@ -1,11 +1,9 @@
 package com.careercompass.backend.controller.resume;
 
+import com.careercompass.backend.config.security.AuthenticatedUser;
+import com.careercompass.backend.config.security.CurrentUser;
 import com.careercompass.backend.dto.response.ResumeResponse;
-import com.careercompass.backend.service.auth.JwtService;
 import com.careercompass.backend.service.resume.ResumeService;
-import com.careercompass.backend.service.user.UserService;
-import com.careercompass.backend.entity.User;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -24,72 +22,42 @@ import java.util.List;
 public class ResumeController {
     
     private final ResumeService resumeService;
-    private final JwtService jwtService;
-    private final UserService userService;
     
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ResumeResponse> uploadResume(
             @RequestParam("file") MultipartFile file,
-            HttpServletRequest request) {
-        
-        // Get current user from JWT token
-        User currentUser = getCurrentUserFromToken(request);
+            @CurrentUser AuthenticatedUser currentUser) {
         
         log.info("Received file upload request: fileName={}, size={}, contentType={}, userId={}",
-                file.getOriginalFilename(), file.getSize(), file.getContentType(), currentUser.getId());
+                file.getOriginalFilename(), file.getSize(), file.getContentType(), currentUser.id());
         
-        ResumeResponse response = resumeService.uploadResume(file, currentUser.getId());
+        ResumeResponse response = resumeService.uploadResume(file, currentUser.id());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<ResumeResponse> getResume(
             @PathVariable Long id,
-            HttpServletRequest request) {
+            @CurrentUser AuthenticatedUser currentUser) {
         
-        User currentUser = getCurrentUserFromToken(request);
-        ResumeResponse response = resumeService.getResumeById(id, currentUser.getId());
+        ResumeResponse response = resumeService.getResumeById(id, currentUser.id());
         return ResponseEntity.ok(response);
     }
     
     @GetMapping
     public ResponseEntity<List<ResumeResponse>> getUserResumes(
-            HttpServletRequest request) {
+            @CurrentUser AuthenticatedUser currentUser) {
         
-        User currentUser = getCurrentUserFromToken(request);
-        List<ResumeResponse> responses = resumeService.getUserResumes(currentUser.getId());
+        List<ResumeResponse> responses = resumeService.getUserResumes(currentUser.id());
         return ResponseEntity.ok(responses);
     }
     
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteResume(
             @PathVariable Long id,
-            HttpServletRequest request) {
+            @CurrentUser AuthenticatedUser currentUser) {
         
-        User currentUser = getCurrentUserFromToken(request);
-        resumeService.deleteResume(id, currentUser.getId());
+        resumeService.deleteResume(id, currentUser.id());
         return ResponseEntity.noContent().build();
     }
-    
-    // Helper method to extract current user from JWT token
-    private User getCurrentUserFromToken(HttpServletRequest request) {
-        String token = extractTokenFromRequest(request);
-        if (token == null) {
-            throw new IllegalArgumentException("Authorization token is required");
-        }
-        
-        String email = jwtService.extractUsername(token);
-        return userService.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-    }
-    
-    // Extract JWT token from Authorization header
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
-
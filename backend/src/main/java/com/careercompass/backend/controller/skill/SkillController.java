@@ -1,13 +1,18 @@
 package com.careercompass.backend.controller.skill;
 
+import com.careercompass.backend.config.properties.HttpCacheProperties;
 import com.careercompass.backend.entity.Skill;
 import com.careercompass.backend.repository.SkillRepository;
+import com.careercompass.backend.service.catalog.CatalogCache;
+import com.careercompass.backend.util.HttpCachingUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +25,12 @@ public class SkillController {
     @Autowired
     private SkillRepository skillRepository;
 
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private HttpCacheProperties httpCacheProperties;
+
     @GetMapping
     public ResponseEntity<Page<Skill>> getAllSkills(
             @RequestParam(defaultValue = "0") int page,
@@ -30,14 +41,19 @@ public class SkillController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<Skill>> getAllSkillsList() {
-        List<Skill> skills = skillRepository.findAll();
-        return ResponseEntity.ok(skills);
+    public ResponseEntity<List<Skill>> getAllSkillsList(WebRequest request) {
+        String etag = HttpCachingUtil.weakETag("skills", catalogCache.getSkillsContentHash());
+        CacheControl cacheControl = HttpCachingUtil.publicCache(httpCacheProperties.getCatalogMaxAgeSeconds());
+        if (request.checkNotModified(etag)) {
+            return HttpCachingUtil.notModified(etag, null, cacheControl);
+        }
+        List<Skill> skills = catalogCache.getAllSkills();
+        return HttpCachingUtil.ok(skills, etag, null, cacheControl);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Skill> getSkillById(@PathVariable Long id) {
-        Optional<Skill> skill = skillRepository.findById(id);
+        Optional<Skill> skill = catalogCache.getSkill(id);
         return skill.map(ResponseEntity::ok)
                    .orElse(ResponseEntity.notFound().build());
     }
@@ -45,6 +61,7 @@ public class SkillController {
     @PostMapping
     public ResponseEntity<Skill> createSkill(@RequestBody Skill skill) {
         Skill savedSkill = skillRepository.save(skill);
+        catalogCache.skillsChanged();
         return ResponseEntity.ok(savedSkill);
     }
 
@@ -57,6 +74,7 @@ public class SkillController {
             skill.setCategory(skillDetails.getCategory());
             
             Skill savedSkill = skillRepository.save(skill);
+            catalogCache.skillsChanged();
             return ResponseEntity.ok(savedSkill);
         }
         return ResponseEntity.notFound().build();
@@ -66,6 +84,7 @@ public class SkillController {
     public ResponseEntity<Void> deleteSkill(@PathVariable Long id) {
         if (skillRepository.existsById(id)) {
             skillRepository.deleteById(id);
+            catalogCache.skillsChanged();
             return ResponseEntity.noContent().build();
         }
         return ResponseEntity.notFound().build();
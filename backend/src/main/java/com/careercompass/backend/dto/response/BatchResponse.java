@@ -0,0 +1,57 @@
+package com.careercompass.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of a multi-get: found items in the requested order plus the ids that did not resolve.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    
+    // Largest id list accepted by the multi-get endpoints
+    public static final int MAX_IDS = 100;
+    
+    private List<T> items;
+    private List<Long> missingIds;
+    
+    // Validate a requested id list and drop duplicates, keeping first-seen order
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one id is required");
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                distinct.add(id);
+            }
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        return new ArrayList<>(distinct);
+    }
+    
+    public static <T> BatchResponse<T> of(List<Long> requestedIds, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : requestedIds) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new BatchResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,36 @@
+package com.careercompass.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Latency, row count and connection wait figures for one repository method.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RepositoryMethodStats {
+
+    private String repository;
+    private String method;
+
+    private long calls;
+    private long errors;
+
+    // Latency in milliseconds
+    private double totalMs;
+    private double meanMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double maxMs;
+
+    private double meanRows;
+    private double maxRows;
+
+    private double meanConnectionWaitMs;
+    private double maxConnectionWaitMs;
+}
@@ -5,9 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 // Company entity - normalized out of jobs table for reusability
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "companies")
 @Table(
     name = "companies",
     indexes = {
@@ -49,9 +54,11 @@ public class Company {
     @Column(length = 255)
     private String headquartersLocation;
 
+    @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private java.time.LocalDateTime createdAt;
 
+    @UpdateTimestamp
     @Column(nullable = false)
     private java.time.LocalDateTime updatedAt;
 
@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,6 +17,7 @@ import java.util.Set;
 
 // Job posting entity with denormalized aggregates for performance
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
 @Table(
     name = "jobs",
     indexes = {
@@ -137,6 +140,7 @@ public class Job {
     private LocalDateTime closedAt;
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-skills")
     @JoinTable(
         name = "job_skills",
         joinColumns = @JoinColumn(name = "job_id", referencedColumnName = "id"),
@@ -146,6 +150,7 @@ public class Job {
     private Set<Skill> skills = new HashSet<>();
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-benefits")
     @JoinTable(
         name = "job_benefits",
         joinColumns = @JoinColumn(name = "job_id", referencedColumnName = "id"),
@@ -5,9 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 // Technical/professional skill entity - normalized many-to-many with jobs
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "skills")
 @Table(
     name = "skills",
     indexes = {
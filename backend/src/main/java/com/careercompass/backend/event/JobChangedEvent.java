@@ -0,0 +1,46 @@
+package com.careercompass.backend.event;
+
+import com.careercompass.backend.entity.Job;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Published after a job is created, updated or deleted.
+ *
+ * Tags name the filtered listings the job belonged to before and after the
+ * write (its company and location), so caches of those listings can be
+ * invalidated without touching unrelated ones.
+ */
+public record JobChangedEvent(Long jobId, Type type, Set<String> tags) {
+
+    public JobChangedEvent(Long jobId, Type type) {
+        this(jobId, type, Set.of());
+    }
+
+    // Event tagged with every company and location the given job states belong to
+    public static JobChangedEvent of(Long jobId, Type type, Job... states) {
+        Set<String> tags = new HashSet<>();
+        for (Job state : states) {
+            if (state.getCompanyId() != null) {
+                tags.add(companyTag(state.getCompanyId()));
+            }
+            if (state.getLocation() != null) {
+                tags.add(locationTag(state.getLocation()));
+            }
+        }
+        return new JobChangedEvent(jobId, type, Set.copyOf(tags));
+    }
+
+    public static String companyTag(Long companyId) {
+        return "company:" + companyId;
+    }
+
+    public static String locationTag(String location) {
+        return "location:" + location;
+    }
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
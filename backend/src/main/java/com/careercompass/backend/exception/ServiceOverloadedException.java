@@ -0,0 +1,27 @@
+package com.careercompass.backend.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a bounded resource is saturated and the request is rejected
+ * instead of queued. Carries the status and Retry-After hint for the client.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, HttpStatus status, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -2,15 +2,20 @@ package com.careercompass.backend.repository;
 
 import com.careercompass.backend.entity.Job;
 import com.careercompass.backend.entity.Job.JobStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,10 +34,33 @@ public interface JobRepository extends JpaRepository<Job, Long> {
 
     Page<Job> findByPostedBy(Long userId, Pageable pageable);
 
+    // Job with skills and benefits in one query, for the job cache
+    @EntityGraph(attributePaths = {"skills", "benefits"})
+    Optional<Job> findWithDetailsById(Long id);
+
+    // Batch variant for multi-get
+    @EntityGraph(attributePaths = {"skills", "benefits"})
+    List<Job> findWithDetailsByIdIn(Collection<? extends Long> ids);
+
+    // Version probe for conditional GETs; reads one column instead of the whole job
+    @Query("SELECT j.updatedAt FROM Job j WHERE j.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
     @Query("SELECT j FROM Job j WHERE j.location = :location AND j.status = 'ACTIVE' " +
            "ORDER BY j.createdAt DESC")
     Page<Job> findByLocation(@Param("location") String location, Pageable pageable);
 
+    // Ids only, for the search cache
+    @Query(value = "SELECT j.id FROM Job j WHERE j.location = :location AND j.status = 'ACTIVE' " +
+                   "ORDER BY j.createdAt DESC",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.location = :location AND j.status = 'ACTIVE'")
+    Page<Long> findIdsByLocation(@Param("location") String location, Pageable pageable);
+
+    // Ids only, for the search cache; ordered so cached windows are stable
+    @Query(value = "SELECT j.id FROM Job j WHERE j.companyId = :companyId ORDER BY j.createdAt DESC, j.id DESC",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.companyId = :companyId")
+    Page<Long> findIdsByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
     @Query("SELECT j FROM Job j WHERE j.location = :location AND j.employmentType = :type " +
            "AND j.status = 'ACTIVE' ORDER BY j.createdAt DESC")
     Page<Job> findByLocationAndEmploymentType(
@@ -111,6 +139,21 @@ public interface JobRepository extends JpaRepository<Job, Long> {
         Pageable pageable
     );
 
+    // Same match as above, ids only; the rows are hydrated from the job cache
+    @Query(value = "SELECT j.id FROM Job j " +
+                   "WHERE j.status = 'ACTIVE' " +
+                   "AND (LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                   "OR LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                   "ORDER BY j.createdAt DESC",
+           countQuery = "SELECT COUNT(j) FROM Job j " +
+                        "WHERE j.status = 'ACTIVE' " +
+                        "AND (LOWER(j.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+                        "OR LOWER(j.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    Page<Long> findIdsByTitleOrDescriptionContaining(
+        @Param("searchTerm") String searchTerm,
+        Pageable pageable
+    );
+
     @Query("SELECT j FROM Job j WHERE j.status = 'ACTIVE' " +
            "AND j.expiresAt IS NOT NULL " +
            "AND j.expiresAt <= :date " +
@@ -147,7 +190,16 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT COUNT(j) FROM Job j WHERE j.postedBy = :userId")
     Long countJobsByPostedBy(@Param("userId") Long userId);
 
+    // Hot finders: results live in the query cache, which Hibernate drops on any write to jobs
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "job-queries")
+    })
     Optional<Job> findByIdAndStatus(Long id, JobStatus status);
 
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "job-queries")
+    })
     List<Job> findTop10ByStatusOrderByCreatedAtDesc(JobStatus status);
 }
@@ -1,17 +1,21 @@
 package com.careercompass.backend.repository;
 
 import com.careercompass.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for User entity with authentication, authorization and audit queries.
@@ -33,6 +37,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Check if username exists for validation
     boolean existsByUsername(String username);
     
+    // Stream every email and username, soft-deleted rows included, for the registration index
+    @Query(value = "SELECT email, username FROM users", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamEmailsAndUsernames();
+    
     // === SOFT DELETE QUERIES ===
     
     // Find all deleted users
@@ -127,6 +136,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "WHERE u.id = :userId")
     int resetFailedLoginAttempts(@Param("userId") Long userId);
     
+    // Increment failed login attempts and lock the account once the limit is reached
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = u.failedLoginAttempts + 1, " +
+           "u.accountLocked = CASE WHEN u.failedLoginAttempts + 1 >= :maxAttempts THEN true ELSE u.accountLocked END, " +
+           "u.lockedAt = CASE WHEN u.failedLoginAttempts + 1 >= :maxAttempts THEN :attemptTime ELSE u.lockedAt END " +
+           "WHERE u.id = :userId")
+    int incrementFailedLoginAttempts(@Param("userId") Long userId,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     @Param("attemptTime") LocalDateTime attemptTime);
+    
     // Lock user account
     @Modifying
     @Query("UPDATE User u SET u.accountLocked = true, u.lockedAt = :lockTime " +
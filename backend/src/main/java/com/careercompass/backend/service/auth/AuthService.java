@@ -9,45 +9,61 @@ import com.careercompass.backend.exception.ResourceNotFoundException;
 import com.careercompass.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Service for authentication operations.
+ *
+ * BCrypt is deliberately kept out of every transaction: the user is loaded
+ * in its own short read, the hash runs with no connection held, and any
+ * write that follows gets a transaction of its own.
  */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginAuditService loginAuditService;
     private final JwtService jwtService;
+    private final RegistrationIndex registrationIndex;
     
-    // User registration
+    private static final String EMAIL_TAKEN_MESSAGE = "Email already registered";
+    private static final String USERNAME_TAKEN_MESSAGE = "Username already taken";
+    
+    // User registration; the password is hashed before the insert opens a transaction
     public AuthResponse register(UserCreateRequest request) {
         log.debug("Registering new user with email: {}", request.getEmail());
         
-        // Check if user already exists
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("Email already registered");
+        // Check if user already exists; only a possible match in the index costs a query
+        if (registrationIndex.mightContainEmail(request.getEmail())
+                && userRepository.existsByEmail(request.getEmail())) {
+            throw new IllegalArgumentException(EMAIL_TAKEN_MESSAGE);
         }
         
-        if (request.getUsername() != null && userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already taken");
+        if (request.getUsername() != null
+                && registrationIndex.mightContainUsername(request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
+            throw new IllegalArgumentException(USERNAME_TAKEN_MESSAGE);
         }
         
+        String passwordHash = passwordHashingService.encode(request.getPassword());
+        
         // Create new user
         User user = User.builder()
                 .email(request.getEmail())
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHash)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phoneNumber(request.getPhoneNumber())
@@ -58,7 +74,14 @@ public class AuthService {
                 .failedLoginAttempts(0)
                 .build();
         
-        User savedUser = userRepository.save(user);
+        // The unique constraints have the final say, e.g. for a concurrent signup
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateRegistration(e);
+        }
+        registrationIndex.add(savedUser.getEmail(), savedUser.getUsername());
         log.info("User registered successfully: {}", savedUser.getEmail());
         
         // Generate tokens
@@ -68,7 +91,7 @@ public class AuthService {
         return buildAuthResponse(savedUser, token, refreshToken);
     }
     
-    // User login
+    // User login; each counter update commits on its own before the outcome is returned
     public AuthResponse login(LoginRequest request, String ipAddress) {
         log.debug("Attempting login for email: {}", request.getEmail());
         
@@ -87,19 +110,17 @@ public class AuthService {
         }
         
         // Validate password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            // Record failed login attempt
-            user.incrementFailedLoginAttempts(5); // Max 5 attempts
-            userRepository.save(user);
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            // Record failed login attempt; committed before the rejection is thrown
+            loginAuditService.recordFailedLoginAttempt(user, 5); // Max 5 attempts
             log.warn("Failed login attempt for email: {}", request.getEmail());
             throw new BadCredentialsException("Incorrect password. Please try again.");
         }
         
-        // Successful login - reset failed attempts and update last login
-        user.resetFailedLoginAttempts();
-        user.setLastLoginAt(LocalDateTime.now());
-        user.setLastLoginIp(ipAddress);
-        userRepository.save(user);
+        // Successful login - reset failed attempts now, last login is written behind
+        LocalDateTime loginTime = LocalDateTime.now();
+        loginAuditService.resetFailedLoginAttempts(user);
+        loginAuditService.recordSuccessfulLogin(user, ipAddress, loginTime);
         
         log.info("User logged in successfully: {}", user.getEmail());
         
@@ -107,24 +128,19 @@ public class AuthService {
         String token = jwtService.generateTokenForUser(user);
         String refreshToken = jwtService.generateRefreshToken(user);
         
-        return buildAuthResponse(user, token, refreshToken);
+        AuthResponse response = buildAuthResponse(user, token, refreshToken);
+        response.setLastLoginAt(loginTime);
+        return response;
     }
     
-    // Get current user
-    @Transactional(readOnly = true)
-    public UserResponse getCurrentUser(String token) {
-        if (token == null) {
-            throw new IllegalArgumentException("Token is required");
-        }
-        
-        String email = jwtService.extractUsername(token);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        
+    // Get current user; the principal was already loaded by the authentication filter
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public UserResponse getCurrentUser(User user) {
         return mapToUserResponse(user);
     }
     
     // Refresh token
+    @Transactional(readOnly = true)
     public AuthResponse refreshToken(String refreshToken) {
         if (refreshToken == null) {
             throw new IllegalArgumentException("Refresh token is required");
@@ -165,6 +181,22 @@ public class AuthService {
         }
     }
     
+    // Map a unique-constraint violation to the same error as the pre-insert checks
+    private RuntimeException toDuplicateRegistration(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                if (constraint.contains("username")) {
+                    return new IllegalArgumentException(USERNAME_TAKEN_MESSAGE);
+                }
+                if (constraint.contains("email")) {
+                    return new IllegalArgumentException(EMAIL_TAKEN_MESSAGE);
+                }
+            }
+        }
+        return e;
+    }
+    
     // Build authentication response
     private AuthResponse buildAuthResponse(User user, String token, String refreshToken) {
         return AuthResponse.builder()
@@ -0,0 +1,140 @@
+package com.careercompass.backend.service.auth;
+
+import com.careercompass.backend.config.properties.LoginAuditProperties;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records login outcomes without rewriting the whole User row on every login.
+ *
+ * Successful logins are buffered in memory, coalesced per user and flushed
+ * periodically as one JDBC batch of narrow last-login updates. Failed attempts
+ * are security relevant and are written immediately as one atomic counter
+ * update in a short transaction of their own, after the password check, so
+ * the update has committed before login rejects the attempt.
+ */
+@Service
+@Slf4j
+public class LoginAuditService {
+
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login_at = ?, last_login_ip = ? " +
+            "WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LoginAuditProperties properties;
+    private final Map<Long, LoginEvent> pending = new ConcurrentHashMap<>();
+    private final Counter skippedCounter;
+    private final Counter flushedCounter;
+
+    public LoginAuditService(UserRepository userRepository,
+                             JdbcTemplate jdbcTemplate,
+                             LoginAuditProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.skippedCounter = Counter.builder("auth.login.audit.skipped")
+                .description("Successful logins that needed no write")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("auth.login.audit.flushed")
+                .description("Last-login rows written by the flusher")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.audit.pending", pending, Map::size)
+                .description("Users with a buffered last-login update")
+                .register(meterRegistry);
+    }
+
+    // Buffer a successful login; repeat logins from the same IP inside the window are dropped
+    public void recordSuccessfulLogin(User user, String ipAddress, LocalDateTime loginTime) {
+        if (isUnchanged(user, ipAddress, loginTime)) {
+            skippedCounter.increment();
+            return;
+        }
+        pending.merge(user.getId(), new LoginEvent(loginTime, ipAddress), LoginEvent::latest);
+    }
+
+    // Clear the failed-attempt counter right away; a stale counter could lock the user out
+    @Transactional
+    public void resetFailedLoginAttempts(User user) {
+        if (user.getFailedLoginAttempts() > 0 || user.getLockedAt() != null) {
+            userRepository.resetFailedLoginAttempts(user.getId());
+        }
+    }
+
+    // Count a failed attempt; login holds no transaction, so this commits on its own
+    @Transactional
+    public void recordFailedLoginAttempt(User user, int maxAttempts) {
+        userRepository.incrementFailedLoginAttempts(user.getId(), maxAttempts, LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-audit.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            LoginEvent event = pending.remove(userId);
+            if (event != null) {
+                Timestamp loginTime = Timestamp.valueOf(event.loginTime());
+                batch.add(new Object[]{loginTime, event.ipAddress(), userId, loginTime});
+            }
+        }
+
+        try {
+            for (int from = 0; from < batch.size(); from += properties.getBatchSize()) {
+                int to = Math.min(from + properties.getBatchSize(), batch.size());
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch.subList(from, to));
+            }
+            flushedCounter.increment(batch.size());
+            log.debug("Flushed {} buffered logins", batch.size());
+        } catch (Exception e) {
+            log.error("Failed to flush {} buffered logins, re-queueing: {}", batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                LoginEvent event = new LoginEvent(((Timestamp) row[0]).toLocalDateTime(), (String) row[1]);
+                pending.merge((Long) row[2], event, LoginEvent::latest);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean isUnchanged(User user, String ipAddress, LocalDateTime loginTime) {
+        if (user.getLastLoginAt() == null || ipAddress == null || !ipAddress.equals(user.getLastLoginIp())) {
+            return false;
+        }
+        Duration sinceLast = Duration.between(user.getLastLoginAt(), loginTime);
+        return sinceLast.getSeconds() < properties.getMinIntervalSeconds();
+    }
+
+    // Latest login for a user waiting to be flushed
+    record LoginEvent(LocalDateTime loginTime, String ipAddress) {
+
+        static LoginEvent latest(LoginEvent a, LoginEvent b) {
+            return a.loginTime().isAfter(b.loginTime()) ? a : b;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.careercompass.backend.service.auth;
+
+import com.careercompass.backend.config.properties.RegistrationIndexProperties;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * In-memory membership index of registered emails and usernames.
+ *
+ * A "no" from the index is definite, so registration can skip the existence
+ * queries in the common case. A "maybe" falls back to the database. The index
+ * is only an optimization: the unique constraints on the users table stay the
+ * source of truth, and until the startup rebuild finishes every lookup
+ * answers "maybe".
+ */
+@Service
+@Slf4j
+public class RegistrationIndex {
+
+    private final UserRepository userRepository;
+    private final RegistrationIndexProperties properties;
+    private final Counter skippedCounter;
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter usernames;
+    private volatile boolean ready;
+
+    public RegistrationIndex(UserRepository userRepository,
+                             RegistrationIndexProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+        this.emails = newFilter();
+        this.usernames = newFilter();
+        this.skippedCounter = Counter.builder("auth.registration.index.skipped")
+                .description("Uniqueness queries avoided by the registration index")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainEmail(String email) {
+        return mightContain(emails, email);
+    }
+
+    public boolean mightContainUsername(String username) {
+        return mightContain(usernames, username);
+    }
+
+    // Record a newly persisted user
+    public void add(String email, String username) {
+        emails.put(normalize(email));
+        if (username != null) {
+            usernames.put(normalize(username));
+        }
+    }
+
+    // Load every email and username, including soft-deleted rows which still hold their unique keys
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!properties.getEnabled()) {
+            return;
+        }
+
+        ready = false;
+        // Swap in fresh filters first so registrations during the rebuild land in them too
+        BloomFilter newEmails = newFilter();
+        BloomFilter newUsernames = newFilter();
+        emails = newEmails;
+        usernames = newUsernames;
+
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<Object[]> rows = userRepository.streamEmailsAndUsernames()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                newEmails.put(normalize((String) row[0]));
+                if (row[1] != null) {
+                    newUsernames.put(normalize((String) row[1]));
+                }
+                count++;
+            }
+            ready = true;
+            log.info("Registration index built from {} users in {} ms", count, System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // Stay in "maybe" mode; registration keeps working on database checks
+            log.warn("Registration index rebuild failed, falling back to database checks: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private boolean mightContain(BloomFilter filter, String value) {
+        if (!ready || value == null) {
+            return true;
+        }
+        boolean result = filter.mightContain(normalize(value));
+        if (!result) {
+            skippedCounter.increment();
+        }
+        return result;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedUsers(), properties.getFalsePositiveRate());
+    }
+
+    // Case-folded so the index never says "no" where a case-insensitive collation would say "yes"
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,266 @@
+package com.careercompass.backend.service.catalog;
+
+import com.careercompass.backend.config.properties.CatalogCacheProperties;
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.NegativeCacheProperties;
+import com.careercompass.backend.entity.Benefit;
+import com.careercompass.backend.entity.CatalogVersion;
+import com.careercompass.backend.entity.Company;
+import com.careercompass.backend.entity.Skill;
+import com.careercompass.backend.repository.BenefitRepository;
+import com.careercompass.backend.repository.CatalogVersionRepository;
+import com.careercompass.backend.repository.CompanyRepository;
+import com.careercompass.backend.repository.SkillRepository;
+import com.careercompass.backend.util.NegativeCache;
+import com.careercompass.backend.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory cache for reference data: skills, benefits and companies.
+ *
+ * Skills and benefits are held as one immutable snapshot per catalog, so
+ * listing and lookup by id cost no query. Companies are cached per id in a
+ * size-bounded map. Writes go through the controllers, which call the
+ * matching {@code *Changed} method: that drops the local copy and bumps the
+ * catalog's row in catalog_versions, which other nodes pick up on their next
+ * version poll.
+ *
+ * Concurrent misses on the same entry share one database load. Company ids
+ * that did not resolve are remembered briefly in a negative cache, cleared
+ * locally by {@link #companyCreated}; other nodes see the insert once the
+ * short negative TTL runs out.
+ *
+ * Cached entities are detached and shared between requests; treat them as
+ * read-only.
+ */
+@Service
+@Slf4j
+public class CatalogCache {
+
+    static final String SKILLS = "skills";
+    static final String BENEFITS = "benefits";
+    static final String COMPANIES = "companies";
+
+    private static final String ALL = "all";
+
+    private final SkillRepository skillRepository;
+    private final BenefitRepository benefitRepository;
+    private final CompanyRepository companyRepository;
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final Cache<String, Snapshot<Skill>> skills;
+    private final Cache<String, Snapshot<Benefit>> benefits;
+    private final Cache<Long, Company> companies;
+    private final SingleFlight<String, Snapshot<Skill>> skillLoads;
+    private final SingleFlight<String, Snapshot<Benefit>> benefitLoads;
+    private final SingleFlight<Long, Company> companyLoads;
+    private final NegativeCache<Long> missingCompanies;
+    private final Map<String, Long> knownVersions = new ConcurrentHashMap<>();
+
+    public CatalogCache(SkillRepository skillRepository,
+                        BenefitRepository benefitRepository,
+                        CompanyRepository companyRepository,
+                        CatalogVersionRepository catalogVersionRepository,
+                        CatalogCacheProperties properties,
+                        CoalescingProperties coalescingProperties,
+                        NegativeCacheProperties negativeCacheProperties,
+                        MeterRegistry meterRegistry) {
+        this.skillRepository = skillRepository;
+        this.benefitRepository = benefitRepository;
+        this.companyRepository = companyRepository;
+        this.catalogVersionRepository = catalogVersionRepository;
+
+        Duration ttl = Duration.ofMinutes(properties.getExpireAfterWriteMinutes());
+        Cache<String, Snapshot<Skill>> skillCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        Cache<String, Snapshot<Benefit>> benefitCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        Cache<Long, Company> companyCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCompanies())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions and friends per catalog
+        this.skills = CaffeineCacheMetrics.monitor(meterRegistry, skillCache, "catalog.skills");
+        this.benefits = CaffeineCacheMetrics.monitor(meterRegistry, benefitCache, "catalog.benefits");
+        this.companies = CaffeineCacheMetrics.monitor(meterRegistry, companyCache, "catalog.companies");
+
+        // Concurrent misses share one load; also exposes cache.coalescing.* per catalog
+        Duration waitTimeout = Duration.ofMillis(coalescingProperties.getWaitTimeoutMs());
+        long retryAfter = coalescingProperties.getRetryAfterSeconds();
+        this.skillLoads = new SingleFlight<>("catalog.skills", waitTimeout, retryAfter, meterRegistry);
+        this.benefitLoads = new SingleFlight<>("catalog.benefits", waitTimeout, retryAfter, meterRegistry);
+        this.companyLoads = new SingleFlight<>("catalog.companies", waitTimeout, retryAfter, meterRegistry);
+        this.missingCompanies = new NegativeCache<>("catalog.companies.missing", negativeCacheProperties.getEnabled(),
+                negativeCacheProperties.getMaxEntries(), Duration.ofSeconds(negativeCacheProperties.getTtlSeconds()),
+                meterRegistry);
+    }
+
+    // === READS ===
+
+    public List<Skill> getAllSkills() {
+        return skillSnapshot().items();
+    }
+
+    public Optional<Skill> getSkill(Long id) {
+        return Optional.ofNullable(skillSnapshot().byId().get(id));
+    }
+
+    // Changes whenever any skill changes; basis for the catalog ETag
+    public int getSkillsContentHash() {
+        return skillSnapshot().contentHash();
+    }
+
+    public List<Benefit> getAllBenefits() {
+        return benefitSnapshot().items();
+    }
+
+    public Optional<Benefit> getBenefit(Long id) {
+        return Optional.ofNullable(benefitSnapshot().byId().get(id));
+    }
+
+    public int getBenefitsContentHash() {
+        return benefitSnapshot().contentHash();
+    }
+
+    public Optional<Company> getCompany(Long id) {
+        if (missingCompanies.isKnownMissing(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(companyLoads.loadThrough(companies, id, this::loadCompany));
+    }
+
+    // Cache misses are fetched together with one IN query
+    public Map<Long, Company> getCompanies(Collection<Long> ids) {
+        List<Long> candidates = ids.stream().filter(id -> !missingCompanies.isKnownMissing(id)).toList();
+        return companies.getAll(candidates, misses -> {
+            Map<Long, Company> loaded = new HashMap<>();
+            for (Company company : companyRepository.findAllById(List.copyOf(misses))) {
+                loaded.put(company.getId(), company);
+            }
+            for (Long id : misses) {
+                if (!loaded.containsKey(id)) {
+                    missingCompanies.markMissing(id);
+                }
+            }
+            return loaded;
+        });
+    }
+
+    // === INVALIDATION ===
+
+    @Transactional
+    public void skillsChanged() {
+        bumpVersion(SKILLS);
+    }
+
+    @Transactional
+    public void benefitsChanged() {
+        bumpVersion(BENEFITS);
+    }
+
+    // A new company needs no version bump, only forgetting that its id was missing
+    public void companyCreated(Long id) {
+        missingCompanies.invalidate(id);
+    }
+
+    @Transactional
+    public void companiesChanged() {
+        bumpVersion(COMPANIES);
+    }
+
+    // Pick up writes made on other nodes
+    @Scheduled(fixedDelayString = "${app.catalog-cache.version-poll-ms:5000}")
+    public void pollVersions() {
+        try {
+            for (CatalogVersion catalogVersion : catalogVersionRepository.findAll()) {
+                Long previous = knownVersions.put(catalogVersion.getName(), catalogVersion.getVersion());
+                if (!Objects.equals(previous, catalogVersion.getVersion())) {
+                    invalidateLocal(catalogVersion.getName());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Catalog version poll failed: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot<Skill> skillSnapshot() {
+        return skillLoads.loadThrough(skills, ALL, key -> Snapshot.of(skillRepository.findAll(), Skill::getId));
+    }
+
+    private Snapshot<Benefit> benefitSnapshot() {
+        return benefitLoads.loadThrough(benefits, ALL, key -> Snapshot.of(benefitRepository.findAll(), Benefit::getId));
+    }
+
+    private Company loadCompany(Long id) {
+        Optional<Company> company = companyRepository.findById(id);
+        if (company.isEmpty()) {
+            missingCompanies.markMissing(id);
+        }
+        return company.orElse(null);
+    }
+
+    private void bumpVersion(String catalog) {
+        if (catalogVersionRepository.bump(catalog) == 0) {
+            catalogVersionRepository.save(new CatalogVersion(catalog, 1L));
+        }
+        invalidateLocal(catalog);
+    }
+
+    private void invalidateLocal(String catalog) {
+        switch (catalog) {
+            case SKILLS -> {
+                skillLoads.forgetAll();
+                skills.invalidateAll();
+            }
+            case BENEFITS -> {
+                benefitLoads.forgetAll();
+                benefits.invalidateAll();
+            }
+            case COMPANIES -> {
+                companyLoads.forgetAll();
+                companies.invalidateAll();
+                missingCompanies.invalidateAll();
+            }
+            default -> log.debug("Ignoring unknown catalog version: {}", catalog);
+        }
+        log.debug("Invalidated {} catalog cache", catalog);
+    }
+
+    // Immutable view of a whole catalog, in repository order and indexed by id
+    record Snapshot<T>(List<T> items, Map<Long, T> byId, int contentHash) {
+
+        static <T> Snapshot<T> of(List<T> items, Function<T, Long> idOf) {
+            Map<Long, T> byId = new LinkedHashMap<>();
+            for (T item : items) {
+                byId.put(idOf.apply(item), item);
+            }
+            List<T> copy = List.copyOf(items);
+            return new Snapshot<>(copy, Map.copyOf(byId), copy.hashCode());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.careercompass.backend.service.job;
+
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.JobCacheProperties;
+import com.careercompass.backend.config.properties.NegativeCacheProperties;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.event.JobChangedEvent;
+import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.util.NegativeCache;
+import com.careercompass.backend.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Per-id cache of fully loaded jobs, shared by the single-item and multi-get endpoints.
+ *
+ * Jobs are loaded with their skills and benefits in one query, so cached
+ * instances serialize without touching the database. They are detached and
+ * shared between requests; treat them as read-only. Concurrent misses on the
+ * same id share one database load. Ids that did not resolve are remembered
+ * briefly in a negative cache, so probes for missing jobs skip the database.
+ */
+@Service
+@Slf4j
+public class JobCache {
+
+    private final JobRepository jobRepository;
+    private final Cache<Long, Job> cache;
+    private final SingleFlight<Long, Job> loads;
+    private final NegativeCache<Long> missing;
+
+    public JobCache(JobRepository jobRepository,
+                    JobCacheProperties properties,
+                    CoalescingProperties coalescingProperties,
+                    NegativeCacheProperties negativeCacheProperties,
+                    MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        Cache<Long, Job> jobCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, jobCache, "jobs.byId");
+        this.loads = new SingleFlight<>("jobs.byId", Duration.ofMillis(coalescingProperties.getWaitTimeoutMs()),
+                coalescingProperties.getRetryAfterSeconds(), meterRegistry);
+        this.missing = new NegativeCache<>("jobs.missing", negativeCacheProperties.getEnabled(),
+                negativeCacheProperties.getMaxEntries(), Duration.ofSeconds(negativeCacheProperties.getTtlSeconds()),
+                meterRegistry);
+    }
+
+    public Optional<Job> get(Long id) {
+        if (missing.isKnownMissing(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(loads.loadThrough(cache, id, this::load));
+    }
+
+    // True when a recent lookup found no job with this id
+    public boolean isKnownMissing(Long id) {
+        return missing.isKnownMissing(id);
+    }
+
+    // Cached entry only; never loads
+    public Optional<Job> getIfPresent(Long id) {
+        return Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    // Resolve many ids; cache misses are fetched together with one IN query
+    public Map<Long, Job> getAll(Collection<Long> ids) {
+        List<Long> candidates = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (!missing.isKnownMissing(id)) {
+                candidates.add(id);
+            }
+        }
+        return cache.getAll(candidates, this::loadAll);
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        loads.forget(event.jobId());
+        cache.invalidate(event.jobId());
+        missing.invalidate(event.jobId());
+    }
+
+    private Job load(Long id) {
+        Optional<Job> job = jobRepository.findWithDetailsById(id);
+        if (job.isEmpty()) {
+            missing.markMissing(id);
+        }
+        return job.orElse(null);
+    }
+
+    private Map<Long, Job> loadAll(Set<? extends Long> ids) {
+        Map<Long, Job> loaded = new HashMap<>();
+        for (Job job : jobRepository.findWithDetailsByIdIn(ids)) {
+            loaded.put(job.getId(), job);
+        }
+        for (Long id : ids) {
+            if (!loaded.containsKey(id)) {
+                missing.markMissing(id);
+            }
+        }
+        log.debug("Loaded {} of {} requested jobs", loaded.size(), ids.size());
+        return loaded;
+    }
+}
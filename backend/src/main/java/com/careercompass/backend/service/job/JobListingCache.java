@@ -0,0 +1,152 @@
+package com.careercompass.backend.service.job;
+
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.JobListingCacheProperties;
+import com.careercompass.backend.event.JobChangedEvent;
+import com.careercompass.backend.util.SingleFlight;
+import com.careercompass.backend.util.WireFormat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response cache for hot job listing pages.
+ *
+ * Stores each page already encoded in the negotiated wire format, plus a gzip
+ * copy when it is large enough, under a normalized
+ * (listing, page, size, variant, format) key. A hit is
+ * written out as raw bytes: no query, no entity hydration and no
+ * serialization work. Any job write clears the cache through {@link JobChangedEvent}.
+ */
+@Service
+@Slf4j
+public class JobListingCache {
+
+    public static final String ACTIVE = "active";
+    public static final String REMOTE = "remote";
+    public static final String FEATURED = "featured";
+
+    private final JobListingCacheProperties properties;
+    private final JsonMapper jsonMapper;
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<ListingKey, EncodedPage> cache;
+    private final SingleFlight<ListingKey, EncodedPage> loads;
+
+    public JobListingCache(JobListingCacheProperties properties,
+                           CoalescingProperties coalescingProperties,
+                           JsonMapper jsonMapper,
+                           CBORMapper cborMapper,
+                           SmileMapper smileMapper,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+        this.smileMapper = smileMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Cache<ListingKey, EncodedPage> listingCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, listingCache, "jobs.listing");
+        this.loads = new SingleFlight<>("jobs.listing", Duration.ofMillis(coalescingProperties.getWaitTimeoutMs()),
+                coalescingProperties.getRetryAfterSeconds(), meterRegistry);
+    }
+
+    /**
+     * Serve a listing page from the cache, loading and encoding it on a miss.
+     * Concurrent misses for the same key wait for a single load.
+     */
+    public ResponseEntity<byte[]> get(String listing, int page, int size, String variant,
+                                      String accept, String acceptEncoding,
+                                      Supplier<? extends Page<?>> loader) {
+        WireFormat format = WireFormat.negotiate(accept);
+        ListingKey key = new ListingKey(listing, page, size, variant == null ? "" : variant, format);
+        EncodedPage encoded = isCacheable(key)
+                ? loads.loadThrough(cache, key, k -> load(loader, format))
+                : load(loader, format);
+        return toResponse(encoded, format, acceptEncoding);
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        // Any write can move a job into or out of every listing, so drop them all
+        loads.forgetAll();
+        cache.invalidateAll();
+        log.debug("Job listing cache cleared after {} of job {}", event.type(), event.jobId());
+    }
+
+    private boolean isCacheable(ListingKey key) {
+        return properties.getEnabled()
+                && key.page() >= 0 && key.page() < properties.getMaxCachedPages()
+                && key.size() > 0 && key.size() <= properties.getMaxCachedPageSize();
+    }
+
+    // Query and serialize inside one read-only transaction so lazy collections can load
+    private EncodedPage load(Supplier<? extends Page<?>> loader, WireFormat format) {
+        byte[] body = readOnlyTransaction.execute(status -> mapperFor(format).writeValueAsBytes(loader.get()));
+        byte[] gzip = properties.getGzip() && body.length >= properties.getGzipMinBytes() ? gzip(body) : null;
+        return new EncodedPage(body, gzip);
+    }
+
+    // The application's mappers, so cached bytes match what the message converters write
+    private ObjectMapper mapperFor(WireFormat format) {
+        return switch (format) {
+            case JSON -> jsonMapper;
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+        };
+    }
+
+    private ResponseEntity<byte[]> toResponse(EncodedPage encoded, WireFormat format, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(encoded.gzip().length)
+                    .body(encoded.gzip());
+        }
+        return builder.contentLength(encoded.body().length).body(encoded.body());
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // variant distinguishes representations of the same page, e.g. sparse fieldsets
+    record ListingKey(String listing, int page, int size, String variant, WireFormat format) {}
+
+    record EncodedPage(byte[] body, byte[] gzip) {}
+}
@@ -0,0 +1,133 @@
+package com.careercompass.backend.service.job;
+
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.JobSearchCacheProperties;
+import com.careercompass.backend.event.JobChangedEvent;
+import com.careercompass.backend.util.SingleFlight;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache of ordered job id lists for search and filter queries.
+ *
+ * Each entry holds one window of ids (windowSize long) for a canonical
+ * (filter, value) pair, so every page size and number that falls inside the
+ * window is served from the same entry. Entries are stamped with the version
+ * of the one dependency they were built from: the global active job set
+ * version for free-text search, or a company/location tag for filtered
+ * listings. A job write bumps the global version and the job's tags, which
+ * invalidates every dependent entry in O(1); stale entries are dropped lazily
+ * on their next read. Tag versions live in a bounded cache and are drawn from
+ * one sequence, so a tag that was evicted reads as unknown (a miss) and comes
+ * back with a version no existing entry can carry.
+ *
+ * Query popularity is heavily skewed, which suits Caffeine's frequency-based
+ * admission: a burst of one-off queries cannot push the popular ones out.
+ */
+@Service
+public class JobSearchCache {
+
+    public static final String GLOBAL = "global";
+
+    // Never stored on an entry, so an untracked tag always misses
+    private static final long UNKNOWN_VERSION = -1;
+
+    private final JobSearchCacheProperties properties;
+    private final Cache<WindowKey, IdWindow> cache;
+    private final SingleFlight<WindowKey, IdWindow> loads;
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLong tagSequence = new AtomicLong();
+    private final Cache<String, Long> tagVersions;
+
+    public JobSearchCache(JobSearchCacheProperties properties,
+                          CoalescingProperties coalescingProperties,
+                          MeterRegistry meterRegistry) {
+        this.properties = properties;
+        Cache<WindowKey, IdWindow> searchCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+                .recordStats()
+                .build();
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, searchCache, "jobs.search");
+        this.tagVersions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTags())
+                .build();
+        this.loads = new SingleFlight<>("jobs.search", Duration.ofMillis(coalescingProperties.getWaitTimeoutMs()),
+                coalescingProperties.getRetryAfterSeconds(), meterRegistry);
+    }
+
+    /**
+     * Page of ids for a canonical filter, cut from a cached window when the
+     * page fits inside one. The query is called with window-sized pages.
+     */
+    public Page<Long> findIds(String filter, String value, String dependency, Pageable pageable,
+                              Function<Pageable, Page<Long>> query) {
+        int windowSize = properties.getWindowSize();
+        long offset = pageable.getOffset();
+        int window = (int) (offset / windowSize);
+        boolean fitsWindow = pageable.getPageSize() <= windowSize
+                && offset + pageable.getPageSize() <= (long) (window + 1) * windowSize;
+        if (!properties.getEnabled() || !fitsWindow) {
+            return query.apply(pageable);
+        }
+
+        WindowKey key = new WindowKey(filter, value, window);
+        IdWindow entry = cache.getIfPresent(key);
+        if (entry == null || entry.version() != versionOf(dependency)) {
+            entry = loads.execute(key, k -> load(k, dependency, query));
+        }
+
+        int from = (int) (offset - (long) window * windowSize);
+        List<Long> ids = entry.ids();
+        List<Long> content = from >= ids.size()
+                ? List.of()
+                : ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        return new PageImpl<>(content, pageable, entry.total());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        globalVersion.incrementAndGet();
+        for (String tag : event.tags()) {
+            tagVersions.put(tag, tagSequence.incrementAndGet());
+        }
+        // Callers arriving after the write must not join a load that started before it
+        loads.forgetAll();
+    }
+
+    private IdWindow load(WindowKey key, String dependency, Function<Pageable, Page<Long>> query) {
+        // Read the version first: a write racing with the query leaves the entry already stale
+        long version = GLOBAL.equals(dependency)
+                ? globalVersion.get()
+                : tagVersions.get(dependency, t -> tagSequence.incrementAndGet());
+        Page<Long> page = query.apply(PageRequest.of(key.window(), properties.getWindowSize()));
+        IdWindow entry = new IdWindow(List.copyOf(page.getContent()), page.getTotalElements(), version);
+        cache.put(key, entry);
+        return entry;
+    }
+
+    private long versionOf(String dependency) {
+        if (GLOBAL.equals(dependency)) {
+            return globalVersion.get();
+        }
+        Long version = tagVersions.getIfPresent(dependency);
+        return version == null ? UNKNOWN_VERSION : version;
+    }
+
+    record WindowKey(String filter, String value, int window) {}
+
+    record IdWindow(List<Long> ids, long total, long version) {}
+}
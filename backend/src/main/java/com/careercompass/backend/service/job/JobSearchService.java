@@ -0,0 +1,111 @@
+package com.careercompass.backend.service.job;
+
+import com.careercompass.backend.config.properties.NegativeCacheProperties;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.event.JobChangedEvent;
+import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.util.NegativeCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Free-text search and filtered listings over jobs.
+ *
+ * Matching runs as an id-only query whose ordered results are cached per page
+ * window in {@link JobSearchCache}; rows are hydrated through {@link JobCache}
+ * so the result holds fully loaded, detached jobs that any request thread can
+ * serialize. Free-text queries that matched nothing are remembered until the
+ * next job write.
+ */
+@Service
+public class JobSearchService {
+
+    static final String SEARCH = "search";
+    static final String LOCATION = "location";
+    static final String COMPANY = "company";
+
+    private final JobRepository jobRepository;
+    private final JobCache jobCache;
+    private final JobSearchCache searchCache;
+    private final NegativeCache<String> emptyQueries;
+
+    public JobSearchService(JobRepository jobRepository,
+                            JobCache jobCache,
+                            JobSearchCache searchCache,
+                            NegativeCacheProperties negativeCacheProperties,
+                            MeterRegistry meterRegistry) {
+        this.jobRepository = jobRepository;
+        this.jobCache = jobCache;
+        this.searchCache = searchCache;
+        this.emptyQueries = new NegativeCache<>("jobs.search.empty", negativeCacheProperties.getEnabled(),
+                negativeCacheProperties.getMaxEntries(), Duration.ofSeconds(negativeCacheProperties.getTtlSeconds()),
+                meterRegistry);
+    }
+
+    // Active jobs whose title or description contains the query, newest first
+    public Page<Job> search(String query, Pageable pageable) {
+        String normalized = normalize(query);
+        // No match means every page is empty, so the query alone is the key
+        if (emptyQueries.isKnownMissing(normalized)) {
+            return Page.empty(pageable);
+        }
+        Page<Long> ids = searchCache.findIds(SEARCH, normalized, JobSearchCache.GLOBAL, pageable,
+                window -> jobRepository.findIdsByTitleOrDescriptionContaining(normalized, window));
+        if (ids.getTotalElements() == 0) {
+            emptyQueries.markMissing(normalized);
+        }
+        return hydrate(ids);
+    }
+
+    // Active jobs at an exact location, newest first
+    public Page<Job> findByLocation(String location, Pageable pageable) {
+        Page<Long> ids = searchCache.findIds(LOCATION, location, JobChangedEvent.locationTag(location), pageable,
+                window -> jobRepository.findIdsByLocation(location, window));
+        return hydrate(ids);
+    }
+
+    // All jobs of a company, newest first
+    public Page<Job> findByCompany(Long companyId, Pageable pageable) {
+        Page<Long> ids = searchCache.findIds(COMPANY, String.valueOf(companyId), JobChangedEvent.companyTag(companyId),
+                pageable, window -> jobRepository.findIdsByCompanyId(companyId, window));
+        return hydrate(ids);
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        // Any write may make a previously empty query match
+        emptyQueries.invalidateAll();
+    }
+
+    /*
+     * The match is a case-insensitive substring test of the whole phrase, so
+     * case and surrounding blanks are the only safe things to canonicalize.
+     * Reordering or stemming terms would change which jobs match.
+     */
+    private static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Page<Job> hydrate(Page<Long> ids) {
+        Map<Long, Job> jobs = jobCache.getAll(ids.getContent());
+        List<Job> content = new ArrayList<>(ids.getNumberOfElements());
+        for (Long id : ids) {
+            // A job deleted between the two reads is simply left out
+            Job job = jobs.get(id);
+            if (job != null) {
+                content.add(job);
+            }
+        }
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+}
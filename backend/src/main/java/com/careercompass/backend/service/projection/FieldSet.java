@@ -0,0 +1,15 @@
+package com.careercompass.backend.service.projection;
+
+import java.util.List;
+
+/**
+ * Validated, de-duplicated set of attributes requested through {@code fields=}.
+ * The key is order-independent, so "title,id" and "id,title" share a plan.
+ */
+public record FieldSet(List<String> fields, String key) {
+
+    // Tag for ETags and cache keys: distinct representations must not share validators
+    public static String tag(String resource, FieldSet fieldSet) {
+        return fieldSet == null ? resource : resource + "-" + Integer.toHexString(fieldSet.key().hashCode());
+    }
+}
@@ -0,0 +1,213 @@
+package com.careercompass.backend.service.projection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sparse fieldsets ({@code fields=id,title,location}) for job and company reads.
+ *
+ * Requested attributes are checked against a whitelist of basic columns and
+ * turned into a JPQL tuple query that selects only those columns, so both
+ * the SQL projection and the JSON output shrink with the request. Plans
+ * (select and count JPQL) are built once per resource, filter and field set
+ * and then reused.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SparseFieldsetService {
+
+    // === FILTERS (mirror the JobRepository listing queries) ===
+
+    public static final Filter ALL_JOBS = new Filter("all", null, null);
+    public static final Filter ACTIVE_JOBS = new Filter("active",
+            "e.status = 'ACTIVE'", "e.createdAt DESC");
+    public static final Filter REMOTE_JOBS = new Filter("remote",
+            "e.locationType = 'REMOTE' AND e.status = 'ACTIVE'", "e.createdAt DESC");
+    public static final Filter FEATURED_JOBS = new Filter("featured",
+            "e.status = 'ACTIVE' AND e.isFeatured = true", "e.createdAt DESC");
+    public static final Filter ALL_COMPANIES = new Filter("all", null, null);
+
+    private static final Filter BY_ID = new Filter("id", "e.id = :id", null);
+    private static final int MAX_PLANS = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Cache<String, ProjectionPlan> plans = Caffeine.newBuilder()
+            .maximumSize(MAX_PLANS)
+            .build();
+
+    /**
+     * Parse and validate a {@code fields=} value; null when the full representation is wanted.
+     * The id is always included so clients can address what they received.
+     */
+    public FieldSet parse(Resource resource, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!resource.allowedFields().contains(name)) {
+                throw new IllegalArgumentException("Unknown field '" + name + "' for " + resource.label()
+                        + ". Allowed fields: " + String.join(", ", resource.allowedFields()));
+            }
+            requested.add(name);
+        }
+        return new FieldSet(List.copyOf(requested), String.join(",", new TreeSet<>(requested)));
+    }
+
+    public Page<Map<String, Object>> findPage(Resource resource, Filter filter, FieldSet fieldSet, Pageable pageable) {
+        ProjectionPlan plan = planFor(resource, filter, fieldSet);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(plan.selectJpql(), Tuple.class);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            rows.add(toRow(tuple, plan.fields()));
+        }
+
+        // Skip the count when the first page is not full
+        long total = pageable.isPaged() && pageable.getOffset() == 0 && rows.size() < pageable.getPageSize()
+                ? rows.size()
+                : entityManager.createQuery(plan.countJpql(), Long.class).getSingleResult();
+        return new PageImpl<>(rows, pageable, total);
+    }
+
+    public Optional<ProjectedRow> findById(Resource resource, Long id, FieldSet fieldSet) {
+        ProjectionPlan plan = planFor(resource, BY_ID, fieldSet);
+        List<Tuple> result = entityManager.createQuery(plan.selectJpql(), Tuple.class)
+                .setParameter("id", id)
+                .getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        Tuple tuple = result.get(0);
+        return Optional.of(new ProjectedRow(toRow(tuple, plan.fields()),
+                tuple.get(plan.fields().size(), LocalDateTime.class)));
+    }
+
+    // Project an already-loaded entity (e.g. from a cache) without touching the database
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Object> project(Object entity, FieldSet fieldSet) {
+        BeanWrapper wrapper = new BeanWrapperImpl(entity);
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fieldSet.fields()) {
+            row.put(field, wrapper.getPropertyValue(field));
+        }
+        return row;
+    }
+
+    private ProjectionPlan planFor(Resource resource, Filter filter, FieldSet fieldSet) {
+        return plans.get(resource.name() + "|" + filter.name() + "|" + fieldSet.key(),
+                key -> ProjectionPlan.compile(resource, filter, fieldSet));
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            row.put(fields.get(i), tuple.get(i));
+        }
+        return row;
+    }
+
+    // === TYPES ===
+
+    /**
+     * Projectable resources and their whitelisted basic attributes.
+     * Collections and large relations are deliberately not projectable.
+     */
+    public enum Resource {
+        JOB("Job", "job", List.of(
+                "id", "title", "description", "externalJobId", "companyId", "postedBy",
+                "location", "locationType", "salaryMin", "salaryMax", "currency", "salaryFrequency",
+                "employmentType", "seniorityLevel", "experienceYearsMin", "experienceYearsMax",
+                "requiredSkillCount", "benefitCount", "applicationCount", "viewCount",
+                "status", "visibility", "isFeatured",
+                "createdAt", "updatedAt", "publishedAt", "expiresAt", "closedAt")),
+        COMPANY("Company", "company", List.of(
+                "id", "name", "description", "logoUrl", "websiteUrl", "industry", "size",
+                "foundedYear", "headquartersLocation", "createdAt", "updatedAt"));
+
+        private final String entityName;
+        private final String label;
+        private final List<String> allowedFields;
+
+        Resource(String entityName, String label, List<String> allowedFields) {
+            this.entityName = entityName;
+            this.label = label;
+            this.allowedFields = allowedFields;
+        }
+
+        public String entityName() {
+            return entityName;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public List<String> allowedFields() {
+            return allowedFields;
+        }
+    }
+
+    // Named WHERE / ORDER BY pair over alias "e"
+    public record Filter(String name, String where, String orderBy) {}
+
+    // Projected values plus the row's updatedAt, which callers use for validators
+    public record ProjectedRow(Map<String, Object> values, LocalDateTime updatedAt) {}
+
+    record ProjectionPlan(String selectJpql, String countJpql, List<String> fields) {
+
+        // updatedAt is selected last, after the requested fields, and never copied to the output
+        static ProjectionPlan compile(Resource resource, Filter filter, FieldSet fieldSet) {
+            StringBuilder select = new StringBuilder("SELECT ");
+            for (String field : fieldSet.fields()) {
+                select.append("e.").append(field).append(", ");
+            }
+            select.append("e.updatedAt FROM ").append(resource.entityName()).append(" e");
+
+            StringBuilder count = new StringBuilder("SELECT COUNT(e) FROM ")
+                    .append(resource.entityName()).append(" e");
+            if (filter.where() != null) {
+                select.append(" WHERE ").append(filter.where());
+                count.append(" WHERE ").append(filter.where());
+            }
+            if (filter.orderBy() != null) {
+                select.append(" ORDER BY ").append(filter.orderBy());
+            }
+            return new ProjectionPlan(select.toString(), count.toString(), fieldSet.fields());
+        }
+    }
+}
@@ -37,9 +37,8 @@ public class ResumeService {
         // Validate file
         FileValidationUtil.validateFile(file);
         
-        // Get user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        // Reference the authenticated user by id; no need to load the row just to set the foreign key
+        User user = userRepository.getReferenceById(userId);
         
         // Generate unique file name to prevent conflicts
         String originalFileName = file.getOriginalFilename();
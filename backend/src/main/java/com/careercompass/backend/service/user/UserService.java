@@ -5,6 +5,8 @@ import com.careercompass.backend.dto.response.UserResponse;
 import com.careercompass.backend.entity.User;
 import com.careercompass.backend.exception.ResourceNotFoundException;
 import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.auth.PasswordHashingService;
+import com.careercompass.backend.service.auth.RegistrationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,7 +14,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +31,8 @@ import java.util.UUID;
 public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RegistrationIndex registrationIndex;
     
     private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final int PASSWORD_RESET_TOKEN_VALIDITY_HOURS = 24;
@@ -47,7 +49,7 @@ public class UserService implements UserDetailsService {
         // Create user entity using builder pattern
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword())) // Hash the password
+                .password(passwordHashingService.encode(request.getPassword())) // Hash the password
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .role(User.Role.USER) // Default role
@@ -59,6 +61,7 @@ public class UserService implements UserDetailsService {
                 .build();
         
         User savedUser = userRepository.save(user);
+        registrationIndex.add(savedUser.getEmail(), savedUser.getUsername());
         log.info("Created new user with ID: {} and email: {}", savedUser.getId(), savedUser.getEmail());
         
         return mapToResponse(savedUser);
@@ -107,12 +110,12 @@ public class UserService implements UserDetailsService {
         User user = findUserByIdOrThrow(userId);
         
         // Verify current password
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
             throw new IllegalArgumentException("Current password is incorrect");
         }
         
         // Update password
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingService.encode(newPassword));
         user.setPasswordChangedAt(LocalDateTime.now());
         
         // Clear any existing reset token
@@ -155,7 +158,7 @@ public class UserService implements UserDetailsService {
         }
         
         // Update password
-        userRepository.updatePassword(user.getId(), passwordEncoder.encode(newPassword), LocalDateTime.now());
+        userRepository.updatePassword(user.getId(), passwordHashingService.encode(newPassword), LocalDateTime.now());
         
         log.info("Password reset successfully for user: {}", user.getEmail());
     }
@@ -0,0 +1,27 @@
+package com.careercompass.backend.service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Out of service until {@link WarmupRunner} has finished. Part of the
+ * readiness group, so traffic is only routed to a warmed-up instance.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmupRunner.isComplete() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("rounds", warmupRunner.getRounds())
+                .withDetail("p99Micros", warmupRunner.getLastP99Micros())
+                .withDetail("compiledQueries", warmupRunner.getCompiledQueries())
+                .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.careercompass.backend.service.warmup;
+
+import com.careercompass.backend.config.properties.WarmupProperties;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.service.auth.JwtService;
+import com.careercompass.backend.util.FileValidationUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the JIT before the pod is reported ready.
+ *
+ * After startup a background thread parses every JPQL {@code @Query} once,
+ * so Hibernate has their interpretations cached. It then repeats the work
+ * behind the hot endpoints in rounds: listing, search and detail queries
+ * serialized with the application's JSON mapper, JWT signing and parsing, and upload
+ * file name sanitizing. Rounds continue until one has a p99 at or below
+ * the latency target, or the time limit passes. {@link WarmupHealthIndicator}
+ * keeps the readiness group out of service until then. Everything is
+ * read-only.
+ */
+@Service
+@Slf4j
+public class WarmupRunner {
+
+    private static final List<String> SEARCH_TERMS = List.of("engineer", "developer", "senior", "remote", "data");
+    private static final List<String> FILE_NAMES = List.of(
+            "resume.pdf", "My Resume (final).docx", "../../etc/passwd.pdf", "C:\\Users\\cv\\cv<2>.doc");
+    private static final int PAGE_SIZE = 20;
+
+    private final WarmupProperties properties;
+    private final ApplicationContext applicationContext;
+    private final EntityManagerFactory entityManagerFactory;
+    private final JobRepository jobRepository;
+    private final JwtService jwtService;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    // Never persisted; only signs and parses tokens
+    private final User syntheticUser = User.builder()
+            .id(0L)
+            .email("warmup@careercompass.invalid")
+            .role(User.Role.USER)
+            .build();
+
+    private volatile boolean complete;
+    private volatile int rounds;
+    private volatile long lastP99Micros = -1;
+    private volatile int compiledQueries;
+    private volatile Long sampleJobId;
+
+    public WarmupRunner(WarmupProperties properties,
+                        ApplicationContext applicationContext,
+                        EntityManagerFactory entityManagerFactory,
+                        JobRepository jobRepository,
+                        JwtService jwtService,
+                        JsonMapper jsonMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.entityManagerFactory = entityManagerFactory;
+        this.jobRepository = jobRepository;
+        this.jwtService = jwtService;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.getEnabled()) {
+            complete = true;
+            return;
+        }
+        Thread thread = new Thread(this::run, "warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    // -1 until the first round finishes
+    public long getLastP99Micros() {
+        return lastP99Micros;
+    }
+
+    public int getCompiledQueries() {
+        return compiledQueries;
+    }
+
+    void run() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(properties.getMaxDurationSeconds());
+        long targetMicros = TimeUnit.MILLISECONDS.toMicros(properties.getLatencyTargetMs());
+        try {
+            compiledQueries = compileQueries();
+            do {
+                lastP99Micros = runRound();
+                rounds++;
+            } while (lastP99Micros > targetMicros && System.nanoTime() < deadline);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (lastP99Micros > targetMicros) {
+                log.warn("Warm-up stopped after {} ms and {} rounds with p99 {} us above the {} ms target",
+                        elapsedMs, rounds, lastP99Micros, properties.getLatencyTargetMs());
+            } else {
+                log.info("Warm-up reached p99 {} us in {} ms ({} rounds, {} queries compiled)",
+                        lastP99Micros, elapsedMs, rounds, compiledQueries);
+            }
+        } catch (RuntimeException e) {
+            // A failed warm-up must not keep the pod out of service forever
+            log.warn("Warm-up failed, reporting ready without it: {}", e.getMessage());
+        } finally {
+            complete = true;
+        }
+    }
+
+    // Parse every JPQL @Query once so the first request finds its interpretation cached
+    private int compileQueries() {
+        Repositories repositories = new Repositories(applicationContext);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        int compiled = 0;
+        try {
+            for (Class<?> domainType : repositories) {
+                RepositoryInformation information = repositories.getRepositoryInformationFor(domainType).orElse(null);
+                if (information == null) {
+                    continue;
+                }
+                for (Method method : information.getRepositoryInterface().getMethods()) {
+                    Query query = method.getAnnotation(Query.class);
+                    if (query == null || query.nativeQuery() || query.value().isEmpty()) {
+                        continue;
+                    }
+                    try {
+                        entityManager.createQuery(query.value());
+                        compiled++;
+                    } catch (RuntimeException e) {
+                        log.debug("Skipped warm-up compile of {}: {}", method, e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+        return compiled;
+    }
+
+    // One round of every kind of call; returns the p99 across all of them
+    private long runRound() {
+        int iterations = properties.getIterationsPerRound();
+        long[] latencies = new long[iterations * 5];
+        int n = 0;
+        for (int i = 0; i < iterations; i++) {
+            String term = SEARCH_TERMS.get(i % SEARCH_TERMS.size());
+            String fileName = FILE_NAMES.get(i % FILE_NAMES.size());
+            latencies[n++] = time(this::listActiveJobs);
+            latencies[n++] = time(() -> searchJobs(term));
+            latencies[n++] = time(this::jobDetail);
+            latencies[n++] = time(this::signAndParseToken);
+            latencies[n++] = time(() -> FileValidationUtil.sanitizeFileName(fileName));
+        }
+        Arrays.sort(latencies);
+        return latencies[(int) Math.ceil(latencies.length * 0.99) - 1];
+    }
+
+    private void listActiveJobs() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Page<Job> page = jobRepository.findActiveJobs(PageRequest.of(0, PAGE_SIZE));
+            if (page.hasContent()) {
+                sampleJobId = page.getContent().get(0).getId();
+            }
+            encode(page);
+        });
+    }
+
+    private void searchJobs(String term) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Page<Long> ids = jobRepository.findIdsByTitleOrDescriptionContaining(term, PageRequest.of(0, PAGE_SIZE));
+            encode(jobRepository.findWithDetailsByIdIn(ids.getContent()));
+        });
+    }
+
+    private void jobDetail() {
+        Long id = sampleJobId;
+        if (id != null) {
+            readOnlyTransaction.executeWithoutResult(status -> jobRepository.findWithDetailsById(id).ifPresent(this::encode));
+        }
+    }
+
+    private void signAndParseToken() {
+        String token = jwtService.generateTokenForUser(syntheticUser);
+        jwtService.validateToken(token, syntheticUser);
+    }
+
+    private void encode(Object value) {
+        jsonMapper.writeValueAsBytes(value);
+    }
+
+    private static long time(Runnable call) {
+        long start = System.nanoTime();
+        call.run();
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,74 @@
+package com.careercompass.backend.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+public class HttpCachingUtil {
+    
+    private HttpCachingUtil() {
+    }
+    
+    /**
+     * Weak ETag for a row, derived from its last update time
+     */
+    public static String weakETag(String resource, Object id, LocalDateTime updatedAt) {
+        return "W/\"" + resource + "-" + id + "-" + Long.toHexString(toEpochMillis(updatedAt)) + "\"";
+    }
+    
+    /**
+     * Weak ETag for a whole collection, derived from a content hash
+     */
+    public static String weakETag(String resource, int contentHash) {
+        return "W/\"" + resource + "-" + Integer.toHexString(contentHash) + "\"";
+    }
+    
+    /**
+     * True when the client sent a validator worth probing for
+     */
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+    
+    /**
+     * Public caching for shared reference data, revalidated with the ETag once stale
+     */
+    public static CacheControl publicCache(long maxAgeSeconds) {
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic().mustRevalidate();
+    }
+    
+    /**
+     * 304 response carrying the validators and caching policy
+     */
+    public static <T> ResponseEntity<T> notModified(String etag, LocalDateTime lastModified, CacheControl cacheControl) {
+        return withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), etag, lastModified, cacheControl).build();
+    }
+    
+    /**
+     * 200 response carrying the validators and caching policy
+     */
+    public static <T> ResponseEntity<T> ok(T body, String etag, LocalDateTime lastModified, CacheControl cacheControl) {
+        return withValidators(ResponseEntity.ok(), etag, lastModified, cacheControl).body(body);
+    }
+    
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    // JSON, CBOR and Smile share the ETag, so shared caches must key on Accept as well
+    private static ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder builder, String etag,
+                                                             LocalDateTime lastModified, CacheControl cacheControl) {
+        builder.eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT);
+        if (lastModified != null) {
+            builder.lastModified(toEpochMillis(lastModified));
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,50 @@
+package com.careercompass.backend.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+/**
+ * Bounded, short-lived set of keys known to have no result.
+ *
+ * Lets repeated lookups of missing ids, or searches that matched nothing,
+ * be answered without a query. Owners must invalidate a key when a write
+ * could make it resolve; the TTL bounds staleness from writes they cannot
+ * see, such as inserts on other nodes.
+ */
+public class NegativeCache<K> {
+
+    private final Cache<K, Boolean> missing;
+    private final boolean enabled;
+
+    public NegativeCache(String name, boolean enabled, long maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        Cache<K, Boolean> cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.missing = CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public boolean isKnownMissing(K key) {
+        return enabled && missing.getIfPresent(key) != null;
+    }
+
+    public void markMissing(K key) {
+        if (enabled) {
+            missing.put(key, Boolean.TRUE);
+        }
+    }
+
+    public void invalidate(K key) {
+        missing.invalidate(key);
+    }
+
+    public void invalidateAll() {
+        missing.invalidateAll();
+    }
+}
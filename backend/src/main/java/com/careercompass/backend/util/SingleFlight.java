@@ -0,0 +1,142 @@
+package com.careercompass.backend.util;
+
+import com.careercompass.backend.exception.ServiceOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key into one.
+ *
+ * The first caller for a key (the leader) runs the loader on its own thread;
+ * callers arriving while it is in flight (followers) wait for its result
+ * instead of repeating the work. Followers give up after the wait timeout
+ * with a 503 so a stuck load cannot pile up request threads. Failures are
+ * shared with the waiting followers but never remembered.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final String name;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration waitTimeout, long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.leaders = Counter.builder("cache.coalescing.loads")
+                .description("Loads started (leader) or joined (follower)")
+                .tags("name", name, "role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("cache.coalescing.loads")
+                .description("Loads started (leader) or joined (follower)")
+                .tags("name", name, "role", "follower")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("cache.coalescing.timeouts")
+                .description("Followers that gave up waiting for an in-flight load")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.coalescing.ratio", this, SingleFlight::coalescingRatio)
+                .description("Share of loads served by joining an in-flight load")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.coalescing.in.flight", inFlight, ConcurrentHashMap::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    // Run the loader, or join the load already in flight for this key
+    public V execute(K key, Function<? super K, ? extends V> loader) {
+        return run(key, loader, null);
+    }
+
+    // Cache lookup whose misses are coalesced; null results are returned but not cached
+    public V loadThrough(Cache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return run(key, loader, cache);
+    }
+
+    // Detach the in-flight load for a key so its result is not cached and later callers start afresh
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    public double coalescingRatio() {
+        double total = leaders.count() + followers.count();
+        return total == 0 ? 0.0 : followers.count() / total;
+    }
+
+    private V run(K key, Function<? super K, ? extends V> loader, Cache<K, V> cache) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            followers.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        V value;
+        try {
+            value = loader.apply(key);
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+
+        // Cache before leaving the in-flight map; if the key was forgotten meanwhile, undo the put
+        if (cache != null && value != null) {
+            cache.put(key, value);
+        }
+        if (!inFlight.remove(key, flight) && cache != null) {
+            cache.invalidate(key);
+        }
+        flight.complete(value);
+        return value;
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new ServiceOverloadedException(
+                    "Timed out waiting for " + name + " to load", HttpStatus.SERVICE_UNAVAILABLE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (CancellationException e) {
+            throw new IllegalStateException("In-flight load of " + name + " was cancelled", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + name + " to load", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- V5: Version stamps for cached reference data (skills, benefits, companies)
+
+CREATE TABLE IF NOT EXISTS catalog_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO catalog_versions (name, version) VALUES
+    ('skills', 0),
+    ('benefits', 0),
+    ('companies', 0)
+ON CONFLICT (name) DO NOTHING;
+
+COMMENT ON TABLE catalog_versions IS 'Incremented on every catalog write so each node can drop its cached copy';
@@ -0,0 +1,135 @@
+package com.careercompass.backend.config.concurrency;
+
+import com.careercompass.backend.config.properties.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Route classification and shedding order. Concurrency is simulated by
+ * issuing the next request from inside the chain of the one before it, so
+ * the outer requests are still in flight.
+ */
+class ConcurrencyLimitFilterTests {
+
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+
+    @Test
+    void classifiesByMethodAndMostSpecificPattern() {
+        ConcurrencyLimitFilter filter = filter();
+
+        assertThat(filter.classify(request("GET", "/api/jobs/42"))).isEqualTo(RouteClass.DETAIL);
+        assertThat(filter.classify(request("GET", "/api/jobs/active"))).isEqualTo(RouteClass.SEARCH);
+        assertThat(filter.classify(request("GET", "/api/jobs/featured"))).isEqualTo(RouteClass.SEARCH);
+        assertThat(filter.classify(request("GET", "/api/jobs"))).isEqualTo(RouteClass.SEARCH);
+        assertThat(filter.classify(request("GET", "/api/companies"))).isEqualTo(RouteClass.SEARCH);
+        assertThat(filter.classify(request("GET", "/api/resumes"))).isEqualTo(RouteClass.SEARCH);
+        assertThat(filter.classify(request("POST", "/api/resumes"))).isEqualTo(RouteClass.UPLOAD);
+        assertThat(filter.classify(request("POST", "/api/auth/login"))).isEqualTo(RouteClass.AUTH);
+    }
+
+    @Test
+    void batchReadsAreClassifiedAsSearch() {
+        MockHttpServletRequest batch = request("GET", "/api/jobs");
+        batch.setQueryString("ids=1,2,3");
+        batch.addParameter("ids", "1,2,3");
+
+        assertThat(filter().classify(batch)).isEqualTo(RouteClass.SEARCH);
+    }
+
+    @Test
+    void writesAreNotLimited() {
+        ConcurrencyLimitFilter filter = filter();
+
+        assertThat(filter.classify(request("PUT", "/api/jobs/42"))).isNull();
+        assertThat(filter.classify(request("DELETE", "/api/jobs/42"))).isNull();
+        assertThat(filter.classify(request("GET", "/actuator/health"))).isNull();
+    }
+
+    @Test
+    void rejectsKeysWithoutMethod() {
+        properties.getRouteClasses().put("/api/jobs/{id}", RouteClass.DETAIL);
+
+        assertThatIllegalArgumentException().isThrownBy(this::filter);
+    }
+
+    @Test
+    void shedsOnceTheClassLimitIsReached() throws Exception {
+        properties.setInitialLimit(2);
+        ConcurrencyLimitFilter filter = filter();
+        List<Integer> statuses = new ArrayList<>();
+
+        nested(filter, statuses, request("GET", "/api/jobs/1"), request("GET", "/api/jobs/2"),
+                request("GET", "/api/jobs/3"));
+
+        assertThat(statuses).containsExactly(503, 200, 200);
+    }
+
+    // Saturated logins may shed listings, never detail reads
+    @Test
+    void saturatedAuthShedsSearchButNotDetail() throws Exception {
+        properties.setInitialLimit(2);
+        ConcurrencyLimitFilter filter = filter();
+        List<Integer> statuses = new ArrayList<>();
+
+        nested(filter, statuses, request("POST", "/api/auth/login"), request("POST", "/api/auth/login"),
+                request("GET", "/api/jobs/1"), request("GET", "/api/jobs/search"));
+
+        assertThat(statuses).containsExactly(503, 200, 200, 200);
+    }
+
+    @Test
+    void detailAndAuthDoNotShedEachOther() throws Exception {
+        properties.setInitialLimit(2);
+        ConcurrencyLimitFilter filter = filter();
+        List<Integer> statuses = new ArrayList<>();
+
+        nested(filter, statuses, request("GET", "/api/jobs/1"), request("GET", "/api/jobs/2"),
+                request("POST", "/api/auth/login"), request("POST", "/api/resumes"));
+
+        assertThat(statuses).containsExactly(503, 200, 200, 200);
+    }
+
+    private ConcurrencyLimitFilter filter() {
+        return new ConcurrencyLimitFilter(properties, new SimpleMeterRegistry(),
+                (request, response, handler, ex) -> {
+                    response.setStatus(503);
+                    return new ModelAndView();
+                });
+    }
+
+    // Issues each request from inside the previous one's chain; statuses are recorded innermost first
+    private static void nested(ConcurrencyLimitFilter filter, List<Integer> statuses,
+                               MockHttpServletRequest... requests) throws Exception {
+        nested(filter, statuses, requests, 0);
+    }
+
+    private static void nested(ConcurrencyLimitFilter filter, List<Integer> statuses,
+                               MockHttpServletRequest[] requests, int index) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            if (index + 1 < requests.length) {
+                try {
+                    nested(filter, statuses, requests, index + 1);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        filter.doFilter(requests[index], response, chain);
+        statuses.add(response.getStatus());
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        return new MockHttpServletRequest(method, path);
+    }
+}
@@ -0,0 +1,146 @@
+package com.careercompass.backend.config.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The limiter is driven with synthetic sample windows: every window fills
+ * the limit (or holds a fixed number of requests) and completes them all
+ * with the same latency, spread across the window so that it closes.
+ */
+class GradientLimiterTests {
+
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int MIN_SAMPLES = 10;
+
+    private long now;
+
+    @Test
+    void admitsUpToTheLimit() {
+        GradientLimiter limiter = limiter(3);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(BASELINE, now);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void limitGrowsWhileLatencyStaysAtBaseline() {
+        GradientLimiter limiter = limiter(20);
+
+        fullWindows(limiter, BASELINE, 20);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyDoubles() {
+        GradientLimiter limiter = limiter(20);
+        fullWindows(limiter, BASELINE, 1);
+        int before = limiter.getLimit();
+
+        fullWindows(limiter, 2 * BASELINE, 40);
+
+        // With a 1.5 tolerance, doubled latency settles where L = L * 0.75 + sqrt(L), i.e. 16
+        assertThat(limiter.getLimit()).isLessThan(before).isBetween(16, 17);
+    }
+
+    @Test
+    void limitRecoversOnceLatencyReturnsToBaseline() {
+        GradientLimiter limiter = limiter(20);
+        fullWindows(limiter, BASELINE, 1);
+        fullWindows(limiter, 4 * BASELINE, 40);
+        int congested = limiter.getLimit();
+
+        fullWindows(limiter, BASELINE, 20);
+
+        assertThat(limiter.getLimit()).isGreaterThan(congested);
+    }
+
+    // Halving per estimate alone would settle at 4; the configured floor is higher here
+    @Test
+    void limitNeverFallsBelowMinimum() {
+        GradientLimiter limiter = new GradientLimiter(20, 6, 200, 1.5, 0.2, 600, WINDOW, MIN_SAMPLES);
+        fullWindows(limiter, BASELINE, 1);
+
+        fullWindows(limiter, 100 * BASELINE, 100);
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    // A mostly idle limit says nothing about capacity, however slow the requests are
+    @Test
+    void underusedLimitIsLeftAlone() {
+        GradientLimiter limiter = limiter(20);
+        fullWindows(limiter, BASELINE, 1);
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            window(limiter, 10 * BASELINE, 3);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(before);
+    }
+
+    // A slowdown under load must not become the new baseline
+    @Test
+    void baselineIsNotLearntFromCongestedWindows() {
+        GradientLimiter limiter = limiter(20);
+        fullWindows(limiter, BASELINE, 1);
+        fullWindows(limiter, 2 * BASELINE, 200);
+        int settled = limiter.getLimit();
+
+        fullWindows(limiter, 2 * BASELINE, 200);
+
+        assertThat(limiter.getLimit()).isEqualTo(settled).isLessThan(20);
+    }
+
+    @Test
+    void saturationIsAShareOfTheLimit() {
+        GradientLimiter limiter = limiter(10);
+        for (int i = 0; i < 8; i++) {
+            limiter.tryAcquire();
+        }
+        assertThat(limiter.isSaturated(0.9)).isFalse();
+
+        limiter.tryAcquire();
+        assertThat(limiter.isSaturated(0.9)).isTrue();
+    }
+
+    private GradientLimiter limiter(int initialLimit) {
+        return new GradientLimiter(initialLimit, 2, 200, 1.5, 0.2, 600, WINDOW, MIN_SAMPLES);
+    }
+
+    // Windows that use the whole limit, so every one of them counts as congested
+    private void fullWindows(GradientLimiter limiter, long rttNanos, int windows) {
+        for (int i = 0; i < windows; i++) {
+            window(limiter, rttNanos, Math.max(limiter.getLimit(), MIN_SAMPLES));
+        }
+    }
+
+    private void window(GradientLimiter limiter, long rttNanos, int requests) {
+        int admitted = 0;
+        while (admitted < requests && limiter.tryAcquire()) {
+            admitted++;
+        }
+        // Pad with sequential requests so the window has enough samples to close
+        int samples = Math.max(admitted, MIN_SAMPLES);
+        long step = (WINDOW + samples - 2) / (samples - 1);
+        for (int i = 0; i < samples; i++) {
+            if (i >= admitted) {
+                limiter.tryAcquire();
+            }
+            limiter.release(rttNanos, now);
+            now += step;
+        }
+        now += WINDOW;
+    }
+}
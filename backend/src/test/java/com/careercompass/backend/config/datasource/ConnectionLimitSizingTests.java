@@ -0,0 +1,52 @@
+package com.careercompass.backend.config.datasource;
+
+import com.careercompass.backend.config.properties.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static com.careercompass.backend.config.datasource.DataSourceConfig.ConnectionLimitingPostProcessor.permitsFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Permit counts follow the pools behind the wrappers. The pools are never
+ * started: Hikari only connects on the first getConnection.
+ */
+class ConnectionLimitSizingTests {
+
+    @Test
+    void defaultsToThePoolSize() {
+        DataSource pool = new ConnectionTimingDataSource(pool(20));
+
+        assertThat(permitsFor(pool, 0)).isEqualTo(20);
+    }
+
+    @Test
+    void coversPrimaryAndReplicaPools() {
+        DataSource routing = new ReplicaRoutingDataSource(new ConnectionTimingDataSource(pool(20)),
+                new ConnectionTimingDataSource(pool(10)),
+                new ReplicaRoutingPolicy(new ReplicaProperties(), new SimpleMeterRegistry()));
+
+        assertThat(permitsFor(routing, 0)).isEqualTo(30);
+    }
+
+    @Test
+    void acceptsALowerConfiguredLimit() {
+        assertThat(permitsFor(pool(20), 8)).isEqualTo(8);
+    }
+
+    @Test
+    void failsWhenConfiguredAboveThePool() {
+        assertThatIllegalStateException().isThrownBy(() -> permitsFor(pool(20), 21))
+                .withMessageContaining("20 pooled connections");
+    }
+
+    private static HikariDataSource pool(int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(maximumPoolSize);
+        return pool;
+    }
+}
@@ -0,0 +1,65 @@
+package com.careercompass.backend.config.metrics;
+
+import com.careercompass.backend.config.datasource.ConnectionLimitingDataSource;
+import com.careercompass.backend.config.datasource.ConnectionTimingDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A checkout made anywhere during the request, as a transactional service
+ * does at transaction begin, is attributed to the request's route.
+ */
+class ConnectionWaitFilterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionWaitFilter filter = new ConnectionWaitFilter(meterRegistry);
+
+    @Test
+    void attributesPoolAndPermitWaitsToTheRoute() throws Exception {
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenAnswer(invocation -> {
+            Thread.sleep(20);
+            return mock(Connection.class);
+        });
+        DataSource dataSource = new ConnectionLimitingDataSource(new ConnectionTimingDataSource(pool), 1, 1000,
+                meterRegistry);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/42");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/jobs/{id}");
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(connection).isNotNull();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        Timer timer = meterRegistry.get("http.server.requests.connection.wait")
+                .tag("method", "GET")
+                .tag("uri", "/api/jobs/{id}")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void unmatchedRequestsShareOneTag() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/nowhere/123"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertThat(meterRegistry.get("http.server.requests.connection.wait").tag("uri", "UNKNOWN").timer().count())
+                .isEqualTo(1);
+    }
+}
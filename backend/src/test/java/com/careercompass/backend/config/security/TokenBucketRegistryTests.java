@@ -0,0 +1,110 @@
+package com.careercompass.backend.config.security;
+
+import com.careercompass.backend.config.properties.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA buckets driven with an explicit clock. With the defaults used here a
+ * bucket holds 5 tokens and gets one back every 100 ms.
+ */
+class TokenBucketRegistryTests {
+
+    private static final long TOKEN = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final RateLimitProperties properties = new RateLimitProperties();
+
+    private long now = TimeUnit.SECONDS.toNanos(1000);
+
+    TokenBucketRegistryTests() {
+        properties.setCapacity(5);
+        properties.setRefillPerSecond(10);
+    }
+
+    @Test
+    void allowsABurstUpToCapacity() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+
+        for (int i = 4; i >= 0; i--) {
+            TokenBucketRegistry.Decision decision = registry.tryConsume("ip:a", 1, now);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(i);
+        }
+
+        TokenBucketRegistry.Decision denied = registry.tryConsume("ip:a", 1, now);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.limit()).isEqualTo(5);
+        assertThat(denied.retryAfterSeconds()).isEqualTo(1);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+        registry.tryConsume("ip:a", 5, now);
+
+        assertThat(registry.tryConsume("ip:a", 1, now + TOKEN - 1).allowed()).isFalse();
+        assertThat(registry.tryConsume("ip:a", 1, now + TOKEN).allowed()).isTrue();
+        assertThat(registry.tryConsume("ip:a", 1, now + TOKEN).allowed()).isFalse();
+    }
+
+    @Test
+    void costlyRequestsNeedEnoughTokens() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+        registry.tryConsume("ip:a", 3, now);
+
+        assertThat(registry.tryConsume("ip:a", 3, now).allowed()).isFalse();
+        assertThat(registry.tryConsume("ip:a", 2, now).allowed()).isTrue();
+    }
+
+    @Test
+    void clientsHaveSeparateBuckets() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+        registry.tryConsume("user:a@example.com", 5, now);
+
+        assertThat(registry.tryConsume("user:a@example.com", 1, now).allowed()).isFalse();
+        assertThat(registry.tryConsume("user:b@example.com", 1, now).allowed()).isTrue();
+    }
+
+    @Test
+    void longestMatchingPrefixSetsTheCost() {
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+
+        assertThat(registry.costOf("/api/jobs/search")).isEqualTo(5);
+        assertThat(registry.costOf("/api/jobs/42")).isEqualTo(1);
+        assertThat(registry.costOf("/api/resumes/7")).isEqualTo(3);
+    }
+
+    // New clients share one bucket rather than grow the map past its bound
+    @Test
+    void newKeysUseTheOverflowBucketWhenFull() {
+        properties.setMaxBuckets(2);
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+        registry.tryConsume("ip:a", 1, now);
+        registry.tryConsume("ip:b", 1, now);
+
+        registry.tryConsume("ip:c", 5, now);
+
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.tryConsume("ip:d", 1, now).allowed()).isFalse();
+        assertThat(registry.tryConsume("ip:a", 1, now).allowed()).isTrue();
+    }
+
+    @Test
+    void idleBucketsAreEvictedBeforeFallingBackToOverflow() {
+        properties.setMaxBuckets(2);
+        TokenBucketRegistry registry = new TokenBucketRegistry(properties);
+        registry.tryConsume("ip:a", 1, now);
+        registry.tryConsume("ip:b", 1, now);
+
+        // Both buckets are full again by now
+        now += TOKEN;
+        registry.tryConsume("ip:c", 5, now);
+
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.tryConsume("ip:c", 1, now).allowed()).isFalse();
+        assertThat(registry.tryConsume("ip:d", 1, now).allowed()).isTrue();
+    }
+}
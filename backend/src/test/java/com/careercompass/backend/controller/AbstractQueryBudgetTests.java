@@ -0,0 +1,177 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.entity.Benefit;
+import com.careercompass.backend.entity.Company;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.entity.Resume;
+import com.careercompass.backend.entity.Skill;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.BenefitRepository;
+import com.careercompass.backend.repository.CompanyRepository;
+import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.repository.ResumeRepository;
+import com.careercompass.backend.repository.SkillRepository;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.auth.JwtService;
+import com.careercompass.backend.service.catalog.CatalogCache;
+import com.careercompass.backend.support.QueryBudgetExtension;
+import com.careercompass.backend.support.QueryCountingConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared setup for the per-controller query budget suites.
+ *
+ * Every test starts from freshly seeded rows: a user with a token, companies,
+ * skills, benefits, more active jobs than fit on one page (each with several
+ * skills and benefits) and a few resumes. Listing budgets are therefore only
+ * met when lazy collections are loaded in bulk, not once per row.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "app.jwt.secret=Y2FyZWVyY29tcGFzcy10ZXN0LXNlY3JldC1rZXktZm9yLXF1ZXJ5LWNvdW50LXRlc3Rz",
+        "app.rate-limit.enabled=false",
+        "app.file-upload.upload-dir=target/query-budget-uploads"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryCountingConfiguration.class)
+@ExtendWith(QueryBudgetExtension.class)
+abstract class AbstractQueryBudgetTests {
+
+    // Loading the principal in the JWT filter: the user row, then its authorities
+    static final int AUTHENTICATION = 2;
+
+    static final int PAGE_SIZE = 10;
+    static final int JOBS = PAGE_SIZE + 2;
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected JobRepository jobRepository;
+
+    @Autowired
+    protected CompanyRepository companyRepository;
+
+    @Autowired
+    protected SkillRepository skillRepository;
+
+    @Autowired
+    protected BenefitRepository benefitRepository;
+
+    @Autowired
+    protected ResumeRepository resumeRepository;
+
+    @Autowired
+    protected CatalogCache catalogCache;
+
+    @Autowired
+    protected JwtService jwtService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    protected String tag;
+    protected User user;
+    protected String token;
+    protected List<Company> companies;
+    protected List<Skill> skills;
+    protected List<Benefit> benefits;
+    protected List<Job> jobs;
+    protected List<Resume> resumes;
+
+    @BeforeEach
+    void seed() {
+        tag = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(newUser("budget-" + tag + "@example.com", "not-a-real-hash"));
+        token = jwtService.generateTokenForUser(user);
+
+        // One transaction so the jobs reference managed skills and benefits
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            companies = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                companies.add(companyRepository.save(Company.builder()
+                        .name("Budget " + tag + " company " + i)
+                        .industry("Software")
+                        .build()));
+            }
+            skills = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                skills.add(skillRepository.save(Skill.builder().name("skill-" + tag + "-" + i).category("Budget").build()));
+            }
+            benefits = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                benefits.add(benefitRepository.save(Benefit.builder().name("benefit-" + tag + "-" + i).category("Budget").build()));
+            }
+            jobs = new ArrayList<>();
+            for (int i = 0; i < JOBS; i++) {
+                jobs.add(jobRepository.save(Job.builder()
+                        .title("Budget " + tag + " engineer " + i)
+                        .description("Seeded for query budget tests")
+                        .companyId(companies.get(0).getId())
+                        .postedBy(user.getId())
+                        .location("Budget City " + tag)
+                        .locationType(Job.LocationType.REMOTE)
+                        .salaryMin(BigDecimal.valueOf(60_000 + i * 1_000L))
+                        .salaryMax(BigDecimal.valueOf(90_000 + i * 1_000L))
+                        .employmentType(Job.EmploymentType.FULL_TIME)
+                        .seniorityLevel(Job.SeniorityLevel.MID)
+                        .status(Job.JobStatus.ACTIVE)
+                        .isFeatured(true)
+                        .skills(new HashSet<>(skills.subList(i % 2, i % 2 + 3)))
+                        .benefits(new HashSet<>(benefits.subList(0, 2)))
+                        .build()));
+            }
+        });
+        catalogCache.skillsChanged();
+        catalogCache.benefitsChanged();
+
+        resumes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Resume resume = new Resume();
+            resume.setFileName(tag + "-" + i + ".pdf");
+            resume.setOriginalFileName("resume-" + i + ".pdf");
+            resume.setFilePath("target/query-budget-uploads/" + tag + "-" + i + ".pdf");
+            resume.setContentType("application/pdf");
+            resume.setFileSize(1024L);
+            resume.setUser(user);
+            resumes.add(resumeRepository.save(resume));
+        }
+    }
+
+    protected String bearer() {
+        return "Bearer " + token;
+    }
+
+    protected static User newUser(String email, String passwordHash) {
+        return User.builder()
+                .email(email)
+                .password(passwordHash)
+                .firstName("Query")
+                .lastName("Budget")
+                .role(User.Role.USER)
+                .enabled(true)
+                .emailVerified(true)
+                .accountLocked(false)
+                .failedLoginAttempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.service.auth.PasswordHashingService;
+import com.careercompass.backend.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the authentication endpoints. Login, registration
+ * and token refresh are the hottest write paths after a traffic spike.
+ */
+class AuthControllerQueryBudgetTests extends AbstractQueryBudgetTests {
+
+    private static final String PASSWORD = "Budget@1234";
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setPassword() {
+        user.setPassword(passwordHashingService.encode(PASSWORD));
+        user = userRepository.save(user);
+    }
+
+    // The registration index rules the new email out, so only the insert runs
+    @Test
+    @QueryBudget(1)
+    void register() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"registered-%s@example.com","password":"%s",
+                                 "firstName":"Query","lastName":"Budget"}
+                                """.formatted(tag, PASSWORD)))
+                .andExpect(status().isCreated());
+    }
+
+    // The user and its authorities; the last-login write is buffered
+    @Test
+    @QueryBudget(2)
+    void login() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"%s","password":"%s"}
+                                """.formatted(user.getEmail(), PASSWORD)))
+                .andExpect(status().isOk());
+    }
+
+    // The user and its authorities, one atomic counter update, then the re-read that checks it was committed
+    @Test
+    @QueryBudget(4)
+    void failedLogin() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"%s","password":"wrong-%s"}
+                                """.formatted(user.getEmail(), PASSWORD)))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getFailedLoginAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION)
+    void currentUser() throws Exception {
+        mockMvc.perform(get("/api/auth/me").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // The filter resolves the bearer before the refresh looks the user up again
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void refresh() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                        .header("Authorization", "Bearer " + jwtService.generateRefreshToken(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION)
+    void logout() throws Exception {
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+}
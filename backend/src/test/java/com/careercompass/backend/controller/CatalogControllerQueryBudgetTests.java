@@ -0,0 +1,78 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+
+import static com.careercompass.backend.controller.AbstractQueryBudgetTests.AUTHENTICATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the skill, benefit and company catalogs. Reads are
+ * served from the catalog cache, so a cold cache costs one query and a warm
+ * one none.
+ */
+@QueryBudget(AUTHENTICATION + 1)
+class CatalogControllerQueryBudgetTests extends AbstractQueryBudgetTests {
+
+    // Page query, plus a count query once earlier tests have filled more than one page
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void skillPage() throws Exception {
+        mockMvc.perform(get("/api/skills").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void allSkills() throws Exception {
+        mockMvc.perform(get("/api/skills/all").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void skillById() throws Exception {
+        mockMvc.perform(get("/api/skills/{id}", skills.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // Page query, plus a count query once earlier tests have filled more than one page
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void benefitPage() throws Exception {
+        mockMvc.perform(get("/api/benefits").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void allBenefits() throws Exception {
+        mockMvc.perform(get("/api/benefits/all").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void benefitById() throws Exception {
+        mockMvc.perform(get("/api/benefits/{id}", benefits.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // Page query, plus a count query once earlier tests have filled more than one page
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void companyPage() throws Exception {
+        mockMvc.perform(get("/api/companies").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void companyById() throws Exception {
+        mockMvc.perform(get("/api/companies/{id}", companies.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void companiesById() throws Exception {
+        String ids = companies.get(0).getId() + "," + companies.get(1).getId();
+        mockMvc.perform(get("/api/companies").param("ids", ids).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+}
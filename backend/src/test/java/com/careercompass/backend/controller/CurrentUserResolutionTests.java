@@ -0,0 +1,101 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.auth.JwtService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Authenticated requests must load their user once, in the JWT filter,
+ * and never again in the controller layer.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.jwt.secret=Y2FyZWVyY29tcGFzcy10ZXN0LXNlY3JldC1rZXktZm9yLXF1ZXJ5LWNvdW50LXRlc3Rz",
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CurrentUserResolutionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("resolver-" + UUID.randomUUID() + "@example.com")
+                .password("not-a-real-hash")
+                .firstName("Query")
+                .lastName("Count")
+                .role(User.Role.USER)
+                .enabled(true)
+                .emailVerified(true)
+                .accountLocked(false)
+                .failedLoginAttempts(0)
+                .build());
+        token = jwtService.generateTokenForUser(user);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void currentUserEndpointLoadsUserOnce() throws Exception {
+        mockMvc.perform(get("/api/auth/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(user.getId()));
+
+        assertThat(userLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void resumeListingLoadsUserOnce() throws Exception {
+        mockMvc.perform(get("/api/resumes").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        assertThat(userLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void anonymousCurrentUserRequestIsRejectedWithoutQueries() throws Exception {
+        mockMvc.perform(get("/api/auth/me"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private long userLoads() {
+        return statistics.getEntityStatistics(User.class.getName()).getLoadCount();
+    }
+}
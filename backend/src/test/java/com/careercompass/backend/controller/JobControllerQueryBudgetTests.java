@@ -0,0 +1,120 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the job endpoints. Page listings return entities, so
+ * serializing their skills and benefits must cost one query per collection
+ * role, not one per job.
+ */
+class JobControllerQueryBudgetTests extends AbstractQueryBudgetTests {
+
+    // Page query, count query, then the skills and benefits of the whole page
+    private static final int ENTITY_PAGE = 4;
+
+    // Id window query and one query hydrating the jobs with their collections; the window
+    // holds every match, so its total needs no count query
+    private static final int SEARCH_PAGE = 2;
+
+    @Test
+    @QueryBudget(AUTHENTICATION + ENTITY_PAGE)
+    void listAllJobs() throws Exception {
+        mockMvc.perform(get("/api/jobs").param("size", String.valueOf(PAGE_SIZE)).header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void batchOfJobsById() throws Exception {
+        String ids = jobs.get(0).getId() + "," + jobs.get(1).getId() + "," + jobs.get(2).getId();
+        mockMvc.perform(get("/api/jobs").param("ids", ids).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void jobDetail() throws Exception {
+        mockMvc.perform(get("/api/jobs/{id}", jobs.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skills.length()").value(3));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + ENTITY_PAGE)
+    void activeJobs() throws Exception {
+        mockMvc.perform(get("/api/jobs/active").param("size", String.valueOf(PAGE_SIZE)).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + ENTITY_PAGE)
+    void remoteJobs() throws Exception {
+        mockMvc.perform(get("/api/jobs/remote").param("size", String.valueOf(PAGE_SIZE)).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + ENTITY_PAGE)
+    void featuredJobs() throws Exception {
+        mockMvc.perform(get("/api/jobs/featured").param("size", String.valueOf(PAGE_SIZE)).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + ENTITY_PAGE)
+    void jobsBySalaryRange() throws Exception {
+        mockMvc.perform(get("/api/jobs/salary")
+                        .param("minSalary", "50000")
+                        .param("maxSalary", "200000")
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + SEARCH_PAGE)
+    void jobsByLocation() throws Exception {
+        mockMvc.perform(get("/api/jobs/location/{location}", "Budget City " + tag)
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + SEARCH_PAGE)
+    void jobsByCompany() throws Exception {
+        mockMvc.perform(get("/api/jobs/company/{companyId}", companies.get(0).getId())
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + SEARCH_PAGE)
+    void searchJobs() throws Exception {
+        mockMvc.perform(get("/api/jobs/search")
+                        .param("query", "budget " + tag)
+                        .param("size", String.valueOf(PAGE_SIZE))
+                        .header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void activeJobCountByCompany() throws Exception {
+        mockMvc.perform(get("/api/jobs/count/company/{companyId}", companies.get(0).getId())
+                        .header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(JOBS));
+    }
+}
@@ -0,0 +1,125 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.auth.PasswordHashingService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BCrypt takes tens of milliseconds, so it must never run while the request
+ * holds a pooled connection or has a transaction open. Every hash records
+ * the pool's active connections at the moment it starts.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "app.jwt.secret=Y2FyZWVyY29tcGFzcy10ZXN0LXNlY3JldC1rZXktZm9yLXF1ZXJ5LWNvdW50LXRlc3Rz",
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingConnectionTests {
+
+    private static final String PASSWORD = "Hashing@1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoSpyBean
+    private PasswordHashingService passwordHashingService;
+
+    private final List<Integer> activeDuringHash = new ArrayList<>();
+    private String tag;
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tag = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .email("hashing-" + tag + "@example.com")
+                .password(passwordHashingService.encode(PASSWORD))
+                .firstName("Hash")
+                .lastName("Ing")
+                .role(User.Role.USER)
+                .enabled(true)
+                .emailVerified(true)
+                .accountLocked(false)
+                .failedLoginAttempts(0)
+                .build());
+
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        doAnswer(invocation -> recordAndCall(pool, invocation)).when(passwordHashingService).encode(anyString());
+        doAnswer(invocation -> recordAndCall(pool, invocation)).when(passwordHashingService)
+                .matches(anyString(), anyString());
+    }
+
+    @Test
+    void loginHashesWithoutAConnection() throws Exception {
+        login(PASSWORD).andExpect(status().isOk());
+
+        assertThat(activeDuringHash).containsExactly(0);
+    }
+
+    @Test
+    void failedLoginHashesWithoutAConnectionAndCommitsTheAttempt() throws Exception {
+        login("wrong-" + PASSWORD).andExpect(status().isUnauthorized());
+
+        assertThat(activeDuringHash).containsExactly(0);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getFailedLoginAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void registerHashesWithoutAConnection() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"registered-%s@example.com","password":"%s",
+                                 "firstName":"Hash","lastName":"Ing"}
+                                """.formatted(tag, PASSWORD)))
+                .andExpect(status().isCreated());
+
+        assertThat(activeDuringHash).containsExactly(0);
+    }
+
+    private ResultActions login(String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"%s","password":"%s"}
+                        """.formatted(user.getEmail(), password)));
+    }
+
+    private Object recordAndCall(HikariDataSource pool, InvocationOnMock invocation) throws Throwable {
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+        activeDuringHash.add(pool.getHikariPoolMXBean().getActiveConnections());
+        return invocation.callRealMethod();
+    }
+}
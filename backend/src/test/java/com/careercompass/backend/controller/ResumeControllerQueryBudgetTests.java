@@ -0,0 +1,53 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the resume endpoints. The lazy Resume.user must never
+ * be initialized just to read its id.
+ */
+class ResumeControllerQueryBudgetTests extends AbstractQueryBudgetTests {
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void listOwnResumes() throws Exception {
+        mockMvc.perform(get("/api/resumes").header("Authorization", bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(resumes.size()));
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void resumeDetail() throws Exception {
+        mockMvc.perform(get("/api/resumes/{id}", resumes.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // Insert only; the owner is referenced by id, not loaded
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void uploadResume() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "resume.pdf", MediaType.APPLICATION_PDF_VALUE,
+                "%PDF-1.4\n%%EOF\n".getBytes(StandardCharsets.US_ASCII));
+        mockMvc.perform(multipart("/api/resumes").file(file).header("Authorization", bearer()))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void deleteResume() throws Exception {
+        mockMvc.perform(delete("/api/resumes/{id}", resumes.get(0).getId()).header("Authorization", bearer()))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -0,0 +1,55 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the user endpoints. Users carry an eager authorities
+ * collection, which a listing must load for the whole page at once.
+ */
+class UserControllerQueryBudgetTests extends AbstractQueryBudgetTests {
+
+    // Enough users to fill a page; seeded here so the inserts stay outside the budget
+    @BeforeEach
+    void seedUsers() {
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            userRepository.save(newUser("budget-" + tag + "-" + i + "@example.com", "not-a-real-hash"));
+        }
+    }
+
+    @Test
+    @QueryBudget(AUTHENTICATION + 1)
+    void userById() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", user.getId()).header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // Page query, then the authorities of every user on the page in one batch; the count
+    // query only runs once the suite has seeded more users than the 50-row page holds
+    @Test
+    @QueryBudget(AUTHENTICATION + 3)
+    void listUsers() throws Exception {
+        mockMvc.perform(get("/api/users").header("Authorization", bearer()))
+                .andExpect(status().isOk());
+    }
+
+    // Email uniqueness check and the insert
+    @Test
+    @QueryBudget(AUTHENTICATION + 2)
+    void createUser() throws Exception {
+        mockMvc.perform(post("/api/users")
+                        .header("Authorization", bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email":"created-%s@example.com","password":"Budget@1234",
+                                 "firstName":"Query","lastName":"Budget"}
+                                """.formatted(tag)))
+                .andExpect(status().isCreated());
+    }
+}
@@ -0,0 +1,173 @@
+package com.careercompass.backend.controller;
+
+import com.careercompass.backend.entity.Company;
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.entity.User;
+import com.careercompass.backend.repository.CompanyRepository;
+import com.careercompass.backend.repository.JobRepository;
+import com.careercompass.backend.repository.UserRepository;
+import com.careercompass.backend.service.auth.JwtService;
+import com.careercompass.backend.util.WireFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every negotiable format must encode a job, date-time fields included,
+ * both through the message converters and through the listing cache.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "app.jwt.secret=Y2FyZWVyY29tcGFzcy10ZXN0LXNlY3JldC1rZXktZm9yLXF1ZXJ5LWNvdW50LXRlc3Rz",
+        "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WireFormatTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private CBORMapper cborMapper;
+
+    @Autowired
+    private SmileMapper smileMapper;
+
+    private String token;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .email("formats-" + tag + "@example.com")
+                .password("not-a-real-hash")
+                .firstName("Wire")
+                .lastName("Format")
+                .role(User.Role.USER)
+                .enabled(true)
+                .emailVerified(true)
+                .accountLocked(false)
+                .failedLoginAttempts(0)
+                .build());
+        token = jwtService.generateTokenForUser(user);
+        Company company = companyRepository.save(Company.builder()
+                .name("Wire format " + tag)
+                .industry("Software")
+                .build());
+        job = jobRepository.save(Job.builder()
+                .title("Wire format " + tag)
+                .description("Seeded for wire format tests")
+                .companyId(company.getId())
+                .postedBy(user.getId())
+                .location("Format City")
+                .locationType(Job.LocationType.REMOTE)
+                .salaryMin(BigDecimal.valueOf(60_000))
+                .salaryMax(BigDecimal.valueOf(90_000))
+                .employmentType(Job.EmploymentType.FULL_TIME)
+                .seniorityLevel(Job.SeniorityLevel.MID)
+                .status(Job.JobStatus.ACTIVE)
+                .isFeatured(true)
+                .build());
+        assertThat(job.getCreatedAt()).isNotNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(WireFormat.class)
+    void jobDetailCarriesDateTimes(WireFormat format) throws Exception {
+        JsonNode body = fetch("/api/jobs/" + job.getId(), format);
+
+        assertThat(body.get("id").asLong()).isEqualTo(job.getId());
+        assertThat(LocalDateTime.parse(body.get("createdAt").asString()))
+                .isCloseTo(job.getCreatedAt(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WireFormat.class)
+    void cachedListingCarriesDateTimes(WireFormat format) throws Exception {
+        JsonNode content = fetch("/api/jobs/active?page=0&size=20", format).get("content");
+
+        assertThat(content.isEmpty()).isFalse();
+        for (JsonNode listed : content) {
+            assertThat(LocalDateTime.parse(listed.get("createdAt").asString())).isNotNull();
+        }
+    }
+
+    // The ETag is shared across formats, so a shared cache has to tell them apart by Accept
+    @ParameterizedTest
+    @EnumSource(WireFormat.class)
+    void cacheableResponsesVaryByAccept(WireFormat format) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/jobs/" + job.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .accept(format.mediaType()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+
+        mockMvc.perform(get("/api/jobs/" + job.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG))
+                        .accept(format.mediaType()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    private JsonNode fetch(String path, WireFormat format) throws Exception {
+        MvcResult result = mockMvc.perform(get(path)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .accept(format.mediaType()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, format.mediaType().toString()))
+                .andReturn();
+        return mapperFor(format).readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private ObjectMapper mapperFor(WireFormat format) {
+        return switch (format) {
+            case JSON -> jsonMapper;
+            case CBOR -> cborMapper;
+            case SMILE -> smileMapper;
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.careercompass.backend.repository;
+
+import com.careercompass.backend.entity.Job;
+import com.careercompass.backend.entity.Job.JobStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeated hot finder calls must be served from the second-level and query
+ * caches, and a write must make the next call go back to the database.
+ */
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.jwt.secret=Y2FyZWVyY29tcGFzcy10ZXN0LXNlY3JldC1rZXktZm9yLXF1ZXJ5LWNvdW50LXRlc3Rz",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        job = jobRepository.save(Job.builder()
+                .title("Cached job")
+                .description("Served from the second-level cache")
+                .companyId(1L)
+                .postedBy(1L)
+                .location("Remote")
+                .employmentType(Job.EmploymentType.FULL_TIME)
+                .seniorityLevel(Job.SeniorityLevel.MID)
+                .status(JobStatus.ACTIVE)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Warm the caches the way the first request after a deploy would
+        jobRepository.findTop10ByStatusOrderByCreatedAtDesc(JobStatus.ACTIVE);
+        jobRepository.findByIdAndStatus(job.getId(), JobStatus.ACTIVE);
+        statistics.clear();
+    }
+
+    @Test
+    void hotFindersDoNotReachTheDatabaseOnceWarm() {
+        for (int i = 0; i < REQUESTS; i++) {
+            assertThat(jobRepository.findTop10ByStatusOrderByCreatedAtDesc(JobStatus.ACTIVE)).isNotEmpty();
+            assertThat(jobRepository.findByIdAndStatus(job.getId(), JobStatus.ACTIVE)).isPresent();
+        }
+
+        // Without the caches this loop prepares 2 * REQUESTS statements
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2L * REQUESTS);
+    }
+
+    @Test
+    void writeInvalidatesCachedQueryResults() {
+        Job cached = jobRepository.findByIdAndStatus(job.getId(), JobStatus.ACTIVE).orElseThrow();
+        cached.setTitle("Renamed job");
+        jobRepository.save(cached);
+        statistics.clear();
+
+        List<Job> latest = jobRepository.findTop10ByStatusOrderByCreatedAtDesc(JobStatus.ACTIVE);
+
+        assertThat(statistics.getQueryCacheMissCount()).isEqualTo(1);
+        assertThat(latest).extracting(Job::getTitle).contains("Renamed job");
+    }
+}
@@ -0,0 +1,149 @@
+package com.careercompass.backend.service.job;
+
+import com.careercompass.backend.config.properties.CoalescingProperties;
+import com.careercompass.backend.config.properties.JobSearchCacheProperties;
+import com.careercompass.backend.event.JobChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Windowing and version-based invalidation. Every query counts its calls,
+ * so a hit is a lookup that did not reach it.
+ */
+class JobSearchCacheTests {
+
+    private static final String COMPANY_1 = JobChangedEvent.companyTag(1L);
+    private static final String COMPANY_2 = JobChangedEvent.companyTag(2L);
+    private static final String REMOTE = JobChangedEvent.locationTag("Remote");
+
+    private final JobSearchCacheProperties properties = new JobSearchCacheProperties();
+
+    @Test
+    void pagesInsideOneWindowShareAnEntry() {
+        JobSearchCache cache = cache();
+        CountingQuery query = new CountingQuery(250);
+
+        Page<Long> first = cache.findIds("company", "1", COMPANY_1, PageRequest.of(0, 20), query);
+        Page<Long> fourth = cache.findIds("company", "1", COMPANY_1, PageRequest.of(3, 20), query);
+        Page<Long> other = cache.findIds("company", "1", COMPANY_1, PageRequest.of(1, 50), query);
+
+        assertThat(query.calls).containsExactly(PageRequest.of(0, 100));
+        assertThat(first.getContent()).startsWith(0L, 1L).hasSize(20);
+        assertThat(fourth.getContent()).startsWith(60L).hasSize(20);
+        assertThat(other.getContent()).startsWith(50L).hasSize(50);
+        assertThat(fourth.getTotalElements()).isEqualTo(250);
+    }
+
+    @Test
+    void pagesSpanningWindowsGoStraightToTheQuery() {
+        JobSearchCache cache = cache();
+        CountingQuery query = new CountingQuery(250);
+
+        Page<Long> page = cache.findIds("company", "1", COMPANY_1, PageRequest.of(2, 40), query);
+
+        assertThat(query.calls).containsExactly(PageRequest.of(2, 40));
+        assertThat(page.getContent()).startsWith(80L).hasSize(40);
+    }
+
+    @Test
+    void lastWindowMayBeShort() {
+        JobSearchCache cache = cache();
+        CountingQuery query = new CountingQuery(230);
+
+        Page<Long> tail = cache.findIds("company", "1", COMPANY_1, PageRequest.of(11, 20), query);
+        Page<Long> beyond = cache.findIds("company", "1", COMPANY_1, PageRequest.of(14, 20), query);
+
+        assertThat(tail.getContent()).containsExactly(220L, 221L, 222L, 223L, 224L, 225L, 226L, 227L, 228L, 229L);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(query.calls).containsExactly(PageRequest.of(2, 100));
+    }
+
+    // A write to company 1 must not cost company 2 or a location its cached windows
+    @Test
+    void tagBumpInvalidatesOnlyDependentWindows() {
+        JobSearchCache cache = cache();
+        CountingQuery company1 = new CountingQuery(50);
+        CountingQuery company2 = new CountingQuery(50);
+        CountingQuery remote = new CountingQuery(50);
+        CountingQuery search = new CountingQuery(50);
+        findAll(cache, company1, company2, remote, search);
+
+        cache.onJobChanged(new JobChangedEvent(7L, JobChangedEvent.Type.UPDATED, Set.of(COMPANY_1)));
+        findAll(cache, company1, company2, remote, search);
+
+        assertThat(company1.calls).hasSize(2);
+        assertThat(company2.calls).hasSize(1);
+        assertThat(remote.calls).hasSize(1);
+        // Free-text search can match any job, so every write invalidates it
+        assertThat(search.calls).hasSize(2);
+    }
+
+    @Test
+    void bumpedTagIsReloadedOnce() {
+        JobSearchCache cache = cache();
+        CountingQuery query = new CountingQuery(50);
+        cache.findIds("company", "1", COMPANY_1, PageRequest.of(0, 20), query);
+
+        cache.onJobChanged(new JobChangedEvent(7L, JobChangedEvent.Type.CREATED, Set.of(COMPANY_1)));
+        cache.findIds("company", "1", COMPANY_1, PageRequest.of(0, 20), query);
+        cache.findIds("company", "1", COMPANY_1, PageRequest.of(1, 20), query);
+
+        assertThat(query.calls).hasSize(2);
+    }
+
+    @Test
+    void disabledCacheAlwaysQueries() {
+        properties.setEnabled(false);
+        JobSearchCache cache = cache();
+        CountingQuery query = new CountingQuery(50);
+
+        cache.findIds("company", "1", COMPANY_1, PageRequest.of(0, 20), query);
+        cache.findIds("company", "1", COMPANY_1, PageRequest.of(0, 20), query);
+
+        assertThat(query.calls).containsExactly(PageRequest.of(0, 20), PageRequest.of(0, 20));
+    }
+
+    private JobSearchCache cache() {
+        return new JobSearchCache(properties, new CoalescingProperties(), new SimpleMeterRegistry());
+    }
+
+    private static void findAll(JobSearchCache cache, CountingQuery company1, CountingQuery company2,
+                                CountingQuery remote, CountingQuery search) {
+        Pageable page = PageRequest.of(0, 20);
+        cache.findIds("company", "1", COMPANY_1, page, company1);
+        cache.findIds("company", "2", COMPANY_2, page, company2);
+        cache.findIds("location", "Remote", REMOTE, page, remote);
+        cache.findIds("search", "java", JobSearchCache.GLOBAL, page, search);
+    }
+
+    // Ids 0..total-1 in order, paged like the repository would
+    private static final class CountingQuery implements Function<Pageable, Page<Long>> {
+
+        private final List<Pageable> calls = new ArrayList<>();
+        private final long total;
+
+        private CountingQuery(long total) {
+            this.total = total;
+        }
+
+        @Override
+        public Page<Long> apply(Pageable pageable) {
+            calls.add(pageable);
+            long from = Math.min(pageable.getOffset(), total);
+            long to = Math.min(from + pageable.getPageSize(), total);
+            return new PageImpl<>(LongStream.range(from, to).boxed().toList(), pageable, total);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.careercompass.backend.support;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a test may execute on its own thread.
+ *
+ * On a method it covers that test; on a class it is the default for every
+ * test without its own budget. Enforced by {@link QueryBudgetExtension}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface QueryBudget {
+
+    int value();
+}
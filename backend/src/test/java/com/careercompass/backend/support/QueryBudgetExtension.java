@@ -0,0 +1,49 @@
+package com.careercompass.backend.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fails a test that executes more statements than its {@link QueryBudget}.
+ *
+ * Only the test method body is measured; {@code @BeforeEach} seeding runs
+ * before the recording starts. The failure lists every statement so an N+1
+ * shows up as the same query repeated. Requires
+ * {@link QueryCountingConfiguration} in the test's application context.
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        recorder(context).start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        List<String> statements = recorder(context).stop();
+        Optional<QueryBudget> budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class));
+        if (budget.isEmpty() || statements.size() <= budget.get().value()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder()
+                .append(context.getDisplayName())
+                .append(" executed ").append(statements.size())
+                .append(" statements, budget is ").append(budget.get().value()).append(':');
+        for (int i = 0; i < statements.size(); i++) {
+            message.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    private static StatementRecorder recorder(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(StatementRecorder.class);
+    }
+}
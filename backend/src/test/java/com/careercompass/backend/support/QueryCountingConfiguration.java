@@ -0,0 +1,51 @@
+package com.careercompass.backend.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that reports every
+ * executed statement to the {@link StatementRecorder}. The proxy goes on the
+ * outside of the application's own decorators, so it sees exactly what
+ * repositories and JdbcTemplate send.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCountingConfiguration {
+
+    @Bean
+    public StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingPostProcessor(ObjectProvider<StatementRecorder> recorder) {
+        return new StatementCountingPostProcessor(recorder);
+    }
+
+    private record StatementCountingPostProcessor(ObjectProvider<StatementRecorder> recorder)
+            implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                return bean;
+            }
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(recorder.getObject())
+                    .build();
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.careercompass.backend.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL executed on the current thread while a recording is open.
+ *
+ * Only the thread that started the recording is counted, which for MockMvc is
+ * the request thread. Scheduled jobs and write-behind flushes running at the
+ * same time do not leak into a test's count.
+ */
+public class StatementRecorder implements QueryExecutionListener {
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    public void start() {
+        recording.set(new ArrayList<>());
+    }
+
+    // Statements executed since start(), one entry per round trip
+    public List<String> stop() {
+        List<String> statements = recording.get();
+        recording.remove();
+        return statements == null ? List.of() : statements;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        List<String> statements = recording.get();
+        if (statements == null) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        statements.add(execInfo.isBatch() ? sql + " [batch of " + execInfo.getBatchSize() + "]" : sql);
+    }
+}
@@ -0,0 +1,100 @@
+package com.careercompass.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Sizing, the no-false-negative guarantee and the false-positive rate at
+ * the expected number of insertions.
+ */
+class BloomFilterTests {
+
+    private static final int EXPECTED = 10_000;
+
+    @Test
+    void neverReportsAnAddedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("user-" + i + "@example.com");
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("user-" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredRate() {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put("user-" + i + "@example.com");
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain("user@example.com")).isFalse();
+    }
+
+    // m = -n ln p / (ln 2)^2 is about 9.6 bits per value at 1%, rounded up to whole words
+    @Test
+    void sizesTheBitArrayForTheRequestedRate() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertThat(filter.bitSize()).isEqualTo(9_600);
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = thread; i < EXPECTED; i += 4) {
+                        filter.put("user-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertThat(filter.mightContain("user-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(0, 0.01));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(100, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BloomFilter(100, 1));
+    }
+}
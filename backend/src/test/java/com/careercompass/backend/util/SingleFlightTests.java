@@ -0,0 +1,168 @@
+package com.careercompass.backend.util;
+
+import com.careercompass.backend.exception.ServiceOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Leaders are held on a latch while followers join them, so every test
+ * controls exactly which calls overlap.
+ */
+class SingleFlightTests {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(5));
+
+        Future<String> leader = executor.submit(() -> flight.execute("key", this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(executor.submit(() -> flight.execute("key", this::blockingLoad)));
+        }
+        awaitFollowers(FOLLOWERS);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value-key");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value-key");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(flight.coalescingRatio()).isEqualTo(0.8);
+    }
+
+    @Test
+    void failuresAreSharedButNotRemembered() throws Exception {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(5));
+
+        Future<String> leader = executor.submit(() -> flight.execute("key", key -> {
+            blockingLoad(key);
+            throw new IllegalStateException("load failed");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = executor.submit(() -> flight.execute("key", this::blockingLoad));
+        awaitFollowers(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("load failed");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("load failed");
+        assertThat(flight.execute("key", key -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    void followersGiveUpAfterTheWaitTimeout() throws Exception {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofMillis(50));
+
+        executor.submit(() -> flight.execute("key", this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> flight.execute("key", this::blockingLoad))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadThroughCachesNonNullResults() {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(5));
+        Cache<String, String> cache = Caffeine.newBuilder().build();
+
+        assertThat(flight.loadThrough(cache, "key", this::countingLoad)).isEqualTo("value-key");
+        assertThat(flight.loadThrough(cache, "key", this::countingLoad)).isEqualTo("value-key");
+        assertThat(flight.loadThrough(cache, "missing", key -> null)).isNull();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.asMap()).containsOnlyKeys("key");
+    }
+
+    // An invalidation during the load must not be overwritten by the stale result
+    @Test
+    void forgottenLoadIsNotCached() throws Exception {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(5));
+        Cache<String, String> cache = Caffeine.newBuilder().build();
+
+        Future<String> leader = executor.submit(() -> flight.loadThrough(cache, "key", this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        flight.forget("key");
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value-key");
+        assertThat(cache.getIfPresent("key")).isNull();
+    }
+
+    @Test
+    void interruptedFollowerKeepsItsInterruptFlag() throws Exception {
+        SingleFlight<String, String> flight = singleFlight(Duration.ofSeconds(5));
+        executor.submit(() -> flight.execute("key", this::blockingLoad));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatIllegalStateException().isThrownBy(() -> flight.execute("key", this::blockingLoad));
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private SingleFlight<String, String> singleFlight(Duration waitTimeout) {
+        return new SingleFlight<>("test", waitTimeout, 1, meterRegistry);
+    }
+
+    private String countingLoad(String key) {
+        loads.incrementAndGet();
+        return "value-" + key;
+    }
+
+    private String blockingLoad(String key) {
+        loads.incrementAndGet();
+        loading.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "value-" + key;
+    }
+
+    // A follower is counted once it has found the in-flight load, before it starts waiting
+    private void awaitFollowers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("cache.coalescing.loads").tag("role", "follower").counter().count() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Followers did not join the in-flight load");
+            }
+            Thread.sleep(5);
+        }
+    }
+}